@@ -0,0 +1,120 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks resource discovery and resolution over an API produced by
+ * {@link SyntheticApiGenerator}.
+ * <p>
+ * Varying {@code rootCount} gives a scaling curve for discovery; with the
+ * default shape each root contributes about 10 resources.  The API is
+ * generated once per trial, so discovery is measured with the generated
+ * classes already loaded.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiscoveryBenchmark {
+
+  static final String APPLICATION_PATH = "/api";
+
+  @Param({ "10", "100", "1000" })
+  public int rootCount;
+
+  @Param({ "3" })
+  public int depth;
+
+  @Param({ "3" })
+  public int fanOut;
+
+  @Param({ "0.5" })
+  public double locatorShare;
+
+  @Param({ "0.2" })
+  public double wildcardShare;
+
+  @Param({ "1", "4" })
+  public int parallelism;
+
+  private SyntheticApiGenerator.SyntheticApi api;
+
+  private SimpleResourcePathResolver resolver;
+
+  private PathTemplateContextMap context;
+
+  private int next;
+
+  @Setup
+  public void setUp() {
+    final SyntheticApiGenerator generator = new SyntheticApiGenerator();
+    generator.setRootCount(rootCount);
+    generator.setDepth(depth);
+    generator.setFanOut(fanOut);
+    generator.setLocatorShare(locatorShare);
+    generator.setWildcardShare(wildcardShare);
+    api = generator.generate();
+    resolver = discover();
+    if (resolver.descriptors().size() != api.resourceCount()) {
+      throw new IllegalStateException("discovered "
+          + resolver.descriptors().size() + " of " + api.resourceCount()
+          + " resources");
+    }
+    context = new PathTemplateContextMap();
+    for (int i = 0; i < api.resourceCount(); i++) {
+      context.put(SyntheticApiGenerator.variable(i), i);
+    }
+  }
+
+  @Benchmark
+  public SimpleResourcePathResolver discover() {
+    final SimpleResourcePathResolver resolver =
+        new SimpleResourcePathResolver();
+    new ReflectionResourceDiscoveryService(parallelism).discoverResources(
+        APPLICATION_PATH,
+        new CachingReflectionService(api.newReflectionService()), resolver);
+    return resolver;
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public String resolve() {
+    final int index = next++ % api.resourceCount();
+    return resolver.resolve(context, api.modelPaths().get(index));
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link GlobMatcher#matches(Object[])} for each shape of
+ * pattern that can appear in a {@link ReferencedBy} annotation.
+ * <p>
+ * Every shape is matched against the same three-element input, which each
+ * pattern accepts, so that the figures reflect the cost of a successful
+ * match.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobMatcherBenchmark {
+
+  public enum Shape {
+    EXACT(Integer.class, Long.class, String.class),
+    ANY(Integer.class, AnyModel.class, String.class),
+    LEADING_SEQUENCE(AnyModelSequence.class, String.class),
+    INNER_SEQUENCE(Integer.class, AnyModelSequence.class, String.class),
+    TRAILING_SEQUENCE(Integer.class, AnyModelSequence.class);
+
+    private final Class<?>[] pattern;
+
+    Shape(Class<?>... pattern) {
+      this.pattern = pattern;
+    }
+
+  }
+
+  @Param
+  public Shape shape;
+
+  private GlobMatcher<Class<?>> matcher;
+
+  private Class<?>[] input;
+
+  @Setup
+  public void setUp() {
+    matcher = GlobMatcher.with(AnyModel.class, AnyModelSequence.class,
+        ModelPath.with(shape.pattern));
+    input = new Class<?>[] { Integer.class, Long.class, String.class };
+    if (!matcher.matches(input)) {
+      throw new IllegalStateException("pattern " + shape + " does not match");
+    }
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return matcher.matches(input);
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SimpleResourcePathResolver#resolve} as the number of
+ * configured descriptors grows.
+ * <p>
+ * Each descriptor is referenced by a distinct three-element model path
+ * drawn from a fixed alphabet of model types. One additional descriptor
+ * uses a wildcard pattern ending in a type outside of that alphabet, so
+ * that it is the only candidate for a model path ending in that type.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolverBenchmark {
+
+  static final Class<?>[] MODEL_TYPES = {
+      Integer.class, Long.class, Short.class, Byte.class, Double.class,
+      Float.class, Character.class, Boolean.class, String.class,
+      StringBuilder.class, Object.class, Number.class, Thread.class,
+      Runnable.class, Class.class, Enum.class, Math.class, System.class,
+      Runtime.class, Process.class, Date.class, List.class, Map.class,
+      Set.class
+  };
+
+  static final int MODEL_PATH_LENGTH = 3;
+
+  @Param({ "10", "100", "1000", "10000" })
+  public int descriptorCount;
+
+  private SimpleResourcePathResolver resolver;
+
+  private Class<?>[] exactPath;
+
+  private Class<?>[] wildcardPath;
+
+  private Object[] values;
+
+  private PathTemplateContextMap context;
+
+  @Setup
+  public void setUp() {
+    resolver = new SimpleResourcePathResolver();
+    final PathTemplateResolver templateResolver =
+        new NamedVariablePathTemplateResolver();
+    for (int i = 0; i < descriptorCount; i++) {
+      resolver.addDescriptor(new PrecompiledResourceDescriptor("method",
+          "Benchmark.get" + i, "/r" + i + "/{id}",
+          ModelPath.with(modelPath(i)), templateResolver));
+    }
+    resolver.addDescriptor(new PrecompiledResourceDescriptor("method",
+        "Benchmark.getAny", "/any/{id}",
+        ModelPath.with(AnyModelSequence.class, UUID.class),
+        templateResolver));
+    resolver.validate();
+
+    exactPath = modelPath(descriptorCount - 1);
+    wildcardPath = new Class<?>[] { Integer.class, Long.class, UUID.class };
+    values = new Object[] { 42 };
+    context = new PathTemplateContextMap();
+    context.put("id", 42);
+  }
+
+  /**
+   * Creates the model path for the descriptor with the given index.
+   * @param index descriptor index
+   * @return model path whose elements are the base
+   *    {@code MODEL_TYPES.length} digits of {@code index}
+   */
+  static Class<?>[] modelPath(int index) {
+    final Class<?>[] path = new Class<?>[MODEL_PATH_LENGTH];
+    for (int i = MODEL_PATH_LENGTH - 1; i >= 0; i--) {
+      path[i] = MODEL_TYPES[index % MODEL_TYPES.length];
+      index /= MODEL_TYPES.length;
+    }
+    return path;
+  }
+
+  @Benchmark
+  public String resolveExactWithValues() {
+    return resolver.resolveWith(values, exactPath);
+  }
+
+  @Benchmark
+  public String resolveExactWithContext() {
+    return resolver.resolve(context, exactPath);
+  }
+
+  @Benchmark
+  public String resolveWildcardWithValues() {
+    return resolver.resolveWith(values, wildcardPath);
+  }
+
+}
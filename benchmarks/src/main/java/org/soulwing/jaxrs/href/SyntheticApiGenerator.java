@@ -0,0 +1,572 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * A generator for large synthetic JAX-RS APIs, used to benchmark resource
+ * discovery and resolution at realistic scale.
+ * <p>
+ * The generated API is a forest of resource trees.  Each tree has a root
+ * resource class; each resource class has a resource method for itself and
+ * {@link #setFanOut(int) fan-out} children, down to a given
+ * {@link #setDepth(int) depth}.  A child is either a sub-resource method of
+ * its parent, or (in the given {@link #setLocatorShare(double) share} of
+ * cases) a sub-resource locator that returns a child resource class with
+ * children of its own.  Every resource is referenced by a distinct model
+ * class, and the given {@link #setWildcardShare(double) share} of resources
+ * use a wildcard {@link ReferencedBy} pattern rather than an exact one.
+ * <p>
+ * The generator writes Java source for the resource and model classes and
+ * compiles it in memory using the system Java compiler, so it requires a
+ * JDK rather than a JRE.  Generation is deterministic for a given
+ * configuration and {@link #setSeed(long) seed}.
+ *
+ * @author Carl Harris
+ */
+public class SyntheticApiGenerator {
+
+  static final String DEFAULT_PACKAGE_NAME =
+      "org.soulwing.jaxrs.href.synthetic";
+
+  private static final String INDENT = "  ";
+
+  private static final String MODELS = "Models";
+
+  private String packageName = DEFAULT_PACKAGE_NAME;
+  private int rootCount = 10;
+  private int depth = 3;
+  private int fanOut = 3;
+  private double locatorShare = 0.5;
+  private double wildcardShare = 0.2;
+  private long seed;
+
+  /**
+   * The shape of the {@link ReferencedBy} pattern of a resource.
+   */
+  enum Shape {
+    /** the model path of the resource's context and its model class */
+    EXACT,
+    /** as for {@code EXACT} with {@link AnyModel} before the model class */
+    ANY,
+    /**
+     * as for {@code EXACT} with {@link AnyModelSequence} before the model
+     * class
+     */
+    ANY_SEQUENCE
+  }
+
+  /**
+   * Sets the name of the package for generated classes.
+   * @param packageName package name
+   */
+  public void setPackageName(String packageName) {
+    this.packageName = packageName;
+  }
+
+  /**
+   * Sets the number of root resources.
+   * @param rootCount number of root resources; the default is 10
+   */
+  public void setRootCount(int rootCount) {
+    this.rootCount = rootCount;
+  }
+
+  /**
+   * Sets the depth of each resource tree.
+   * @param depth number of levels of resources in each tree, including the
+   *    root; the default is 3
+   */
+  public void setDepth(int depth) {
+    this.depth = depth;
+  }
+
+  /**
+   * Sets the number of children of each resource above the deepest level.
+   * @param fanOut number of children; the default is 3
+   */
+  public void setFanOut(int fanOut) {
+    this.fanOut = fanOut;
+  }
+
+  /**
+   * Sets the share of children that are reached through a sub-resource
+   * locator.
+   * <p>
+   * Only children reached through a locator have children of their own, so
+   * this share governs how many of the possible levels are populated.
+   * @param locatorShare share in the range 0 to 1; the default is 0.5
+   */
+  public void setLocatorShare(double locatorShare) {
+    this.locatorShare = locatorShare;
+  }
+
+  /**
+   * Sets the share of resources that are referenced by a wildcard pattern.
+   * @param wildcardShare share in the range 0 to 1; the default is 0.2
+   */
+  public void setWildcardShare(double wildcardShare) {
+    this.wildcardShare = wildcardShare;
+  }
+
+  /**
+   * Sets the seed for the choices of locators and wildcard patterns.
+   * @param seed random seed; the default is 0
+   */
+  public void setSeed(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Generates and compiles a synthetic API.
+   * @return the generated API
+   * @throws IllegalStateException if no system Java compiler is available,
+   *    or if the generated source cannot be compiled
+   */
+  public SyntheticApi generate() {
+    final List<Node> nodes = createNodes();
+    final Map<String, String> sources = new HashMap<>();
+    sources.put(qualify(MODELS), modelsSource(nodes));
+    for (Node node : nodes) {
+      if (node.isClass()) {
+        sources.put(qualify(node.className()), resourceSource(node));
+      }
+    }
+
+    final ClassLoader classLoader = compile(sources);
+    try {
+      final List<Class<?>> classes = new ArrayList<>();
+      final Set<Class<?>> rootTypes = new LinkedHashSet<>();
+      for (String className : sources.keySet()) {
+        classes.add(Class.forName(className, false, classLoader));
+      }
+      final Class<?>[] modelTypes = new Class<?>[nodes.size()];
+      for (Node node : nodes) {
+        modelTypes[node.id] = Class.forName(qualify(MODELS) + "$"
+            + node.modelName(), false, classLoader);
+        classes.add(modelTypes[node.id]);
+        if (node.parent == null) {
+          rootTypes.add(Class.forName(qualify(node.className()), false,
+              classLoader));
+        }
+      }
+      final List<Class<?>[]> modelPaths = new ArrayList<>(nodes.size());
+      for (Node node : nodes) {
+        modelPaths.add(node.modelPath(modelTypes));
+      }
+      return new SyntheticApi(classes, rootTypes, modelPaths);
+    }
+    catch (ClassNotFoundException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private List<Node> createNodes() {
+    final Random random = new Random(seed);
+    final List<Node> nodes = new ArrayList<>();
+    for (int i = 0; i < rootCount; i++) {
+      addNode(null, true, random, nodes);
+    }
+    return nodes;
+  }
+
+  private void addNode(Node parent, boolean locator, Random random,
+      List<Node> nodes) {
+    final Node node = new Node(nodes.size(), parent, locator,
+        shape(random));
+    nodes.add(node);
+    if (parent != null) {
+      parent.children.add(node);
+    }
+    if (!node.isClass() || node.level() >= depth) return;
+    for (int i = 0; i < fanOut; i++) {
+      addNode(node, random.nextDouble() < locatorShare, random, nodes);
+    }
+  }
+
+  private Shape shape(Random random) {
+    if (random.nextDouble() >= wildcardShare) return Shape.EXACT;
+    return random.nextBoolean() ? Shape.ANY : Shape.ANY_SEQUENCE;
+  }
+
+  private String modelsSource(List<Node> nodes) {
+    final StringWriter writer = new StringWriter();
+    final PrintWriter out = new PrintWriter(writer);
+    out.println("package " + packageName + ";");
+    out.println();
+    out.println("public final class " + MODELS + " {");
+    for (Node node : nodes) {
+      out.println(INDENT + "public static final class " + node.modelName()
+          + " {}");
+    }
+    out.println("}");
+    out.flush();
+    return writer.toString();
+  }
+
+  private String resourceSource(Node node) {
+    final StringWriter writer = new StringWriter();
+    final PrintWriter out = new PrintWriter(writer);
+    out.println("package " + packageName + ";");
+    out.println();
+    if (node.parent == null) {
+      out.println("@" + annotation("javax.ws.rs.Path", literal("r" + node.id)));
+      out.println("@" + annotation(TemplateResolver.class.getName(),
+          NamedVariablePathTemplateResolver.class.getName() + ".class"));
+    }
+    out.println("public class " + node.className() + " {");
+    out.println();
+    writeResourceMethod(node, "get",
+        node.parent == null ? "{" + node.variable() + "}" : null, out);
+    for (Node child : node.children) {
+      out.println();
+      final String path = "c" + child.id + "/{" + child.variable() + "}";
+      if (child.isClass()) {
+        out.println(INDENT + "@" + annotation("javax.ws.rs.Path",
+            literal(path)));
+        out.println(INDENT + "@" + annotation(ReferencedBy.class.getName(),
+            MODELS + "." + node.modelName() + ".class"));
+        out.println(INDENT + "public " + child.className() + " locate"
+            + child.id + "() {");
+        out.println(INDENT + INDENT + "return new " + child.className()
+            + "();");
+        out.println(INDENT + "}");
+      }
+      else {
+        writeResourceMethod(child, "get" + child.id, path, out);
+      }
+    }
+    out.println();
+    out.println("}");
+    out.flush();
+    return writer.toString();
+  }
+
+  private void writeResourceMethod(Node node, String name, String path,
+      PrintWriter out) {
+    out.println(INDENT + "@javax.ws.rs.GET");
+    if (path != null) {
+      out.println(INDENT + "@" + annotation("javax.ws.rs.Path",
+          literal(path)));
+    }
+    out.println(INDENT + "@" + annotation(ReferencedBy.class.getName(),
+        referencedBy(node)));
+    out.println(INDENT + "public Object " + name + "() {");
+    out.println(INDENT + INDENT + "return null;");
+    out.println(INDENT + "}");
+  }
+
+  private String referencedBy(Node node) {
+    final String model = MODELS + "." + node.modelName() + ".class";
+    switch (node.shape) {
+      case ANY:
+        return "{ " + AnyModel.class.getName() + ".class, " + model + " }";
+      case ANY_SEQUENCE:
+        return "{ " + AnyModelSequence.class.getName() + ".class, " + model
+            + " }";
+      default:
+        return model;
+    }
+  }
+
+  /**
+   * Gets the name of the path template variable for a resource.
+   * @param id resource id; i.e. the index of the resource in
+   *    {@link SyntheticApi#modelPaths()}
+   * @return variable name
+   */
+  static String variable(int id) {
+    return "id" + id;
+  }
+
+  private static String annotation(String type, String value) {
+    return type + "(" + value + ")";
+  }
+
+  private static String literal(String s) {
+    return "\"" + s + "\"";
+  }
+
+  private String qualify(String simpleName) {
+    return packageName + "." + simpleName;
+  }
+
+  /**
+   * Compiles the given sources in memory.
+   * @param sources map of class name to source
+   * @return class loader for the compiled classes
+   */
+  private ClassLoader compile(Map<String, String> sources) {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException(
+          "no system Java compiler; a JDK is required");
+    }
+
+    final List<JavaFileObject> units = new ArrayList<>();
+    for (Map.Entry<String, String> entry : sources.entrySet()) {
+      units.add(new SourceFile(entry.getKey(), entry.getValue()));
+    }
+
+    final DiagnosticCollector<JavaFileObject> diagnostics =
+        new DiagnosticCollector<>();
+    final MemoryFileManager fileManager = new MemoryFileManager(
+        compiler.getStandardFileManager(diagnostics, null, null));
+    final List<String> options = Arrays.asList("-proc:none", "-classpath",
+        System.getProperty("java.class.path"));
+    final boolean success = compiler.getTask(null, fileManager, diagnostics,
+        options, null, units).call();
+    if (!success) {
+      throw new IllegalStateException("cannot compile generated API: "
+          + diagnostics.getDiagnostics());
+    }
+    return new MemoryClassLoader(fileManager.classFiles,
+        SyntheticApiGenerator.class.getClassLoader());
+  }
+
+  /**
+   * A generated API.
+   */
+  public static class SyntheticApi {
+
+    private final List<Class<?>> classes;
+    private final Set<Class<?>> rootTypes;
+    private final List<Class<?>[]> modelPaths;
+
+    SyntheticApi(List<Class<?>> classes, Set<Class<?>> rootTypes,
+        List<Class<?>[]> modelPaths) {
+      this.classes = Collections.unmodifiableList(classes);
+      this.rootTypes = Collections.unmodifiableSet(rootTypes);
+      this.modelPaths = Collections.unmodifiableList(modelPaths);
+    }
+
+    /**
+     * Gets all of the generated resource and model classes.
+     * @return classes
+     */
+    public List<Class<?>> classes() {
+      return classes;
+    }
+
+    /**
+     * Gets the generated root resource classes.
+     * @return root resource classes
+     */
+    public Set<Class<?>> rootTypes() {
+      return rootTypes;
+    }
+
+    /**
+     * Gets a model path for each generated resource, which resolves to
+     * that resource.
+     * @return list of model paths, in the order in which the resources were
+     *    generated
+     */
+    public List<Class<?>[]> modelPaths() {
+      return modelPaths;
+    }
+
+    /**
+     * Gets the number of generated resources.
+     * @return number of resources, which is the number of descriptors that
+     *    discovery produces for this API
+     */
+    public int resourceCount() {
+      return modelPaths.size();
+    }
+
+    /**
+     * Creates a reflection service whose candidate types are the generated
+     * classes.
+     * @return reflection service
+     */
+    ReflectionService newReflectionService() {
+      return new ClassSetReflectionService(classes);
+    }
+
+  }
+
+  /**
+   * A resource in the generated API.
+   */
+  private static class Node {
+
+    final int id;
+    final Node parent;
+    final boolean locator;
+    final Shape shape;
+    final List<Node> children = new ArrayList<>();
+
+    Node(int id, Node parent, boolean locator, Shape shape) {
+      this.id = id;
+      this.parent = parent;
+      this.locator = locator;
+      this.shape = shape;
+    }
+
+    /**
+     * Tests whether this resource has a class of its own; i.e. whether it
+     * is a root resource or is reached through a sub-resource locator.
+     * @return {@code true} if this resource has a class
+     */
+    boolean isClass() {
+      return locator;
+    }
+
+    int level() {
+      return parent == null ? 1 : parent.level() + 1;
+    }
+
+    String className() {
+      return "Resource" + id;
+    }
+
+    String modelName() {
+      return "Model" + id;
+    }
+
+    String variable() {
+      return SyntheticApiGenerator.variable(id);
+    }
+
+    /**
+     * Creates a model path that resolves to this resource.
+     * <p>
+     * Resource methods of a class inherit the model path of the class,
+     * which is extended by the model class of the parent resource at each
+     * locator.
+     * @param modelTypes model types indexed by resource id
+     * @return model path
+     */
+    Class<?>[] modelPath(Class<?>[] modelTypes) {
+      final List<Class<?>> path = new ArrayList<>();
+      Node owner = isClass() ? this : parent;
+      while (owner.parent != null) {
+        path.add(0, modelTypes[owner.parent.id]);
+        owner = owner.parent;
+      }
+      if (shape != Shape.EXACT) {
+        path.add(Object.class);
+      }
+      path.add(modelTypes[id]);
+      return path.toArray(new Class<?>[path.size()]);
+    }
+
+  }
+
+  private static class SourceFile extends SimpleJavaFileObject {
+
+    private final String source;
+
+    SourceFile(String className, String source) {
+      super(URI.create("string:///" + className.replace('.', '/')
+          + Kind.SOURCE.extension), Kind.SOURCE);
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return source;
+    }
+
+  }
+
+  private static class ClassFile extends SimpleJavaFileObject {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    ClassFile(String className) {
+      super(URI.create("bytes:///" + className.replace('.', '/')
+          + Kind.CLASS.extension), Kind.CLASS);
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+      return bytes;
+    }
+
+  }
+
+  private static class MemoryFileManager
+      extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    final Map<String, ClassFile> classFiles = new HashMap<>();
+
+    MemoryFileManager(StandardJavaFileManager fileManager) {
+      super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+        JavaFileManager.Location location, String className,
+        JavaFileObject.Kind kind, FileObject sibling) throws IOException {
+      final ClassFile classFile = new ClassFile(className);
+      classFiles.put(className, classFile);
+      return classFile;
+    }
+
+  }
+
+  private static class MemoryClassLoader extends ClassLoader {
+
+    private final Map<String, ClassFile> classFiles;
+
+    MemoryClassLoader(Map<String, ClassFile> classFiles, ClassLoader parent) {
+      super(parent);
+      this.classFiles = classFiles;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      final ClassFile classFile = classFiles.get(name);
+      if (classFile == null) {
+        throw new ClassNotFoundException(name);
+      }
+      final byte[] bytes = classFile.bytes.toByteArray();
+      return defineClass(name, bytes, 0, bytes.length);
+    }
+
+  }
+
+}
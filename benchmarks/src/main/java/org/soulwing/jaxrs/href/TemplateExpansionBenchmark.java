@@ -0,0 +1,112 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks template expansion, from a compiled {@link PathTemplate}
+ * through to a full resolution by model path.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateExpansionBenchmark {
+
+  static final String TEMPLATE =
+      "/customers/{customerId}/orders/{orderId}/items/{itemId}";
+
+  private PathTemplate template;
+
+  private BindingPlan bindingPlan;
+
+  private SimpleResourcePathResolver resolver;
+
+  private Object[] values;
+
+  private Object[] encodedValues;
+
+  private long[] longValues;
+
+  private PathTemplateContextMap context;
+
+  @Setup
+  public void setUp() {
+    final NamedVariablePathTemplateResolver templateResolver =
+        new NamedVariablePathTemplateResolver();
+    template = PathTemplate.compile(TEMPLATE);
+    bindingPlan = BindingPlan.compile(template, templateResolver);
+    resolver = new SimpleResourcePathResolver();
+    resolver.addDescriptor(new PrecompiledResourceDescriptor("method",
+        "Benchmark.getItem", TEMPLATE,
+        ModelPath.with(Integer.class, Long.class, String.class),
+        templateResolver));
+
+    values = new Object[] { 42, 4242L, "item-1" };
+    encodedValues = new Object[] { 42, 4242L, "item 1/rev #2" };
+    longValues = new long[] { 42, 4242L, 424242L };
+    context = new PathTemplateContextMap();
+    context.put("customerId", 42);
+    context.put("orderId", 4242L);
+    context.put("itemId", "item-1");
+  }
+
+  @Benchmark
+  public String expandValues() {
+    return template.expand(values);
+  }
+
+  @Benchmark
+  public String expandValuesRequiringEncoding() {
+    return template.expand(encodedValues);
+  }
+
+  @Benchmark
+  public String expandLongs() {
+    return template.expand(longValues);
+  }
+
+  @Benchmark
+  public String bindAndExpand() {
+    return bindingPlan.resolve(context);
+  }
+
+  @Benchmark
+  public String resolveAndExpand() {
+    return resolver.resolve(context, Integer.class, Long.class,
+        String.class);
+  }
+
+}
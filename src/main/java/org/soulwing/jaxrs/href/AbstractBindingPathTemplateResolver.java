@@ -0,0 +1,44 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * An abstract base for {@link BindingPathTemplateResolver} implementations.
+ * <p>
+ * A subclass need only implement {@link #bind(String)}; the
+ * {@link #resolve(String, PathTemplateContext)} method is implemented by
+ * binding the variables of the given template on each invocation, and is
+ * used only when a template has not already been bound.
+ *
+ * @author Carl Harris
+ */
+public abstract class AbstractBindingPathTemplateResolver
+    implements BindingPathTemplateResolver {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(String template, PathTemplateContext context)
+      throws AmbiguousPathResolutionException {
+    return BindingPlan.compile(PathTemplate.compile(template), this)
+        .resolve(context);
+  }
+
+}
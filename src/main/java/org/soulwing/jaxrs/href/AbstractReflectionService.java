@@ -0,0 +1,77 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * An abstract base for {@link ReflectionService} implementations that
+ * use the Java Reflection API to introspect types and methods.
+ * <p>
+ * A subclass need only decide how types are discovered.
+ *
+ * @author Carl Harris
+ */
+abstract class AbstractReflectionService implements ReflectionService {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <A extends Annotation> A getAnnotation(Class<?> subjectType,
+      Class<A> annotationType) {
+    return subjectType.getAnnotation(annotationType);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <A extends Annotation> A getAnnotation(Method subjectMethod,
+      Class<A> annotationType) {
+    return subjectMethod.getAnnotation(annotationType);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isAbstractType(Class<?> type) {
+    return type.isInterface() || (type.getModifiers() & Modifier.ABSTRACT) != 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Method[] getMethods(Class<?> type) {
+    return type.getMethods();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Class<?> getReturnType(Method method) {
+    return method.getReturnType();
+  }
+
+}
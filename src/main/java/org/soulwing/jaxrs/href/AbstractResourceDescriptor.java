@@ -33,20 +33,43 @@ abstract class AbstractResourceDescriptor implements ResourceDescriptor {
   private final ModelPath referencedBy;
   private final GlobMatcher<Class<?>> matcher;
   private final PathTemplateResolver templateResolver;
+  private final PathTemplate template;
+  private final BindingPlan bindingPlan;
 
   /**
    * Constructs a new instance.
    * @param path resource path template
    * @param referencedBy model path
    * @param templateResolver path template resolver
+   * @throws ResourceConfigurationException if the path template is
+   *    malformed or cannot be bound by the template resolver
    */
   public AbstractResourceDescriptor(String path, ModelPath referencedBy,
       PathTemplateResolver templateResolver) {
+    this(path, "", referencedBy, templateResolver);
+  }
+
+  /**
+   * Constructs a new instance whose path template shares a base path.
+   * @param path resource path template
+   * @param basePath base path shared by the templates of the application
+   *    (see {@link PathTemplate#compile(String, String)})
+   * @param referencedBy model path
+   * @param templateResolver path template resolver
+   * @throws ResourceConfigurationException if the path template is
+   *    malformed or cannot be bound by the template resolver
+   */
+  public AbstractResourceDescriptor(String path, String basePath,
+      ModelPath referencedBy, PathTemplateResolver templateResolver) {
     this.path = path;
     this.referencedBy = referencedBy;
     this.templateResolver = templateResolver;
     this.matcher = GlobMatcher.with(AnyModel.class, AnyModelSequence.class,
         referencedBy);
+    this.template = PathTemplate.compile(path, basePath);
+    this.bindingPlan = templateResolver instanceof BindingPathTemplateResolver ?
+        BindingPlan.compile(template,
+            (BindingPathTemplateResolver) templateResolver) : null;
   }
 
   /**
@@ -65,6 +88,14 @@ abstract class AbstractResourceDescriptor implements ResourceDescriptor {
     return referencedBy;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Class<?>[] modelPath() {
+    return referencedBy.asArray();
+  }
+
   @Override
   public boolean matches(Class<?>... modelPath) {
     return matcher.matches(modelPath);
@@ -86,6 +117,22 @@ abstract class AbstractResourceDescriptor implements ResourceDescriptor {
     return templateResolver;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PathTemplate template() {
+    return template;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public BindingPlan bindingPlan() {
+    return bindingPlan;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -117,8 +164,21 @@ abstract class AbstractResourceDescriptor implements ResourceDescriptor {
     }
   }
 
-  protected abstract String resourceType();
+  public abstract String resourceType();
 
-  protected abstract String resourceName();
+  public abstract String resourceName();
+
+  /**
+   * Creates a descriptor for the same resource as this descriptor, at a
+   * different path and model path.
+   * @param path resource path template
+   * @param basePath base path shared by the templates of the application
+   * @param referencedBy model path
+   * @return descriptor
+   * @throws ResourceConfigurationException if the path template is
+   *    malformed or cannot be bound by the template resolver
+   */
+  abstract AbstractResourceDescriptor relocate(String path, String basePath,
+      ModelPath referencedBy);
 
 }
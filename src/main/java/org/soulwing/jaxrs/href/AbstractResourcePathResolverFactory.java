@@ -0,0 +1,402 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An abstract base for {@link ResourcePathResolverFactory} implementations
+ * that discover resources using a {@link ReflectionService}.
+ * <p>
+ * A subclass decides how the JAX-RS application path is determined and
+ * how candidate resource types are found.
+ * <p>
+ * Discovery and validation are performed once, when a resolver is first
+ * requested; thereafter {@link #newResolver()} returns the same resolver,
+ * which is immutable and safe for use by concurrent threads.  Use
+ * {@link #rebuild()} to discard the shared resolver and discover resources
+ * again (e.g. after changing the configuration of this factory).
+ * <p>
+ * If metrics are enabled, the resolver records the metrics of each
+ * resolution, and the metrics are registered with the platform MBean
+ * server as a {@link ResourcePathResolverMetricsMXBean} named
+ * <code>{@value #METRICS_DOMAIN}:type=ResourcePathResolver,path=</code>
+ * followed by the quoted application path and an <code>instance</code>
+ * key that distinguishes the registrations of different factories.  A
+ * resolver that replaces a previous resolver of the same factory replaces
+ * its registration.  Invoke {@link #close()} when the factory is no longer
+ * needed (e.g. from {@code ServletContextListener.contextDestroyed}) to
+ * remove the registration, so that the platform MBean server does not
+ * retain the metrics (and the class loader of the application).
+ *
+ * @author Carl Harris
+ */
+public abstract class AbstractResourcePathResolverFactory
+    implements ResourcePathResolverFactory {
+
+  /**
+   * Domain of the object names of registered resolver metrics.
+   */
+  public static final String METRICS_DOMAIN = "org.soulwing.jaxrs.href";
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(AbstractResourcePathResolverFactory.class);
+
+  private static final AtomicInteger instanceCount = new AtomicInteger();
+
+  private final int instance = instanceCount.incrementAndGet();
+
+  private int discoveryParallelism = 1;
+  private int maxSubResourceDepth =
+      MemoizingResourceTypeIntrospector.DEFAULT_MAX_DEPTH;
+  private int pathCacheSize;
+  private boolean lazyDiscovery;
+  private boolean metricsEnabled;
+  private ResolutionListener resolutionListener = ResolutionListener.NONE;
+  private int metricsTopModelPaths = ResolverMetrics.DEFAULT_TOP_MODEL_PATHS;
+  private PathCacheEvictionPolicy pathCacheEvictionPolicy =
+      PathCacheEvictionPolicy.LEAST_RECENTLY_USED;
+
+  private volatile ResourcePathResolver resolver;
+  private ObjectName metricsName;
+
+  /**
+   * Sets the maximum number of root resource types to introspect
+   * concurrently during discovery.
+   * <p>
+   * When greater than one, root resource types are introspected in a
+   * fork/join pool of the given parallelism, which is created for each
+   * discovery and shut down when it completes.  The resulting descriptors
+   * (and any configuration error reported) do not depend on the order in
+   * which the types are introspected.
+   * @param discoveryParallelism discovery parallelism; the default is 1,
+   *    which introspects root resource types one at a time
+   */
+  public void setDiscoveryParallelism(int discoveryParallelism) {
+    this.discoveryParallelism = discoveryParallelism;
+  }
+
+  /**
+   * Sets the maximum depth of sub-resource locator chains.
+   * <p>
+   * Discovery fails with a {@link ResourceConfigurationException} that
+   * describes the offending chain of types if any chain from a root
+   * resource type through its sub-resource types is longer than this
+   * depth.  This bounds discovery of self-referential or mutually
+   * recursive locators whose model paths grow with each step.  (A chain
+   * that reaches the same type at the same model path twice is always
+   * reported as a cycle.)
+   * @param maxSubResourceDepth maximum number of types in a chain,
+   *    including the root resource type; the default is 32
+   */
+  public void setMaxSubResourceDepth(int maxSubResourceDepth) {
+    this.maxSubResourceDepth = maxSubResourceDepth;
+  }
+
+  /**
+   * Sets a flag that determines whether the sub-resources of each root
+   * resource type are discovered only when first needed.
+   * <p>
+   * In lazy mode, only root resource types and their {@link ReferencedBy}
+   * annotations are examined when a resolver is created.  The methods and
+   * sub-resources of a root resource type are introspected (once) when a
+   * model path that could match a descriptor of that type is first
+   * resolved, so that a resolver that is used to produce paths for only a
+   * small part of a large API need not discover the remainder.  Because a
+   * root resource type that has no {@link ReferencedBy} annotation could
+   * produce a descriptor for any model path, it is introspected on the
+   * first resolution.
+   * <p>
+   * A configuration error in a subtree (including a duplicate model path)
+   * is reported by the first resolution that needs the subtree, rather
+   * than when the resolver is created.  In lazy mode, root resource types
+   * are introspected one at a time, and a subclass does not cache the
+   * discovered descriptors.
+   * @param lazyDiscovery {@code true} to discover lazily; the default is
+   *    {@code false}, in which case all resources are discovered and
+   *    validated when a resolver is created
+   */
+  public void setLazyDiscovery(boolean lazyDiscovery) {
+    this.lazyDiscovery = lazyDiscovery;
+  }
+
+  /**
+   * Sets a flag that determines whether resolvers produced by this factory
+   * record metrics that are exposed through JMX.
+   * @param metricsEnabled {@code true} to record metrics; the default is
+   *    {@code false}
+   */
+  public void setMetricsEnabled(boolean metricsEnabled) {
+    this.metricsEnabled = metricsEnabled;
+  }
+
+  /**
+   * Sets the number of most frequently resolved model paths that are
+   * reported by the metrics of resolvers produced by this factory.
+   * @param metricsTopModelPaths number of model paths; the default is 10
+   */
+  public void setMetricsTopModelPaths(int metricsTopModelPaths) {
+    this.metricsTopModelPaths = metricsTopModelPaths;
+  }
+
+  /**
+   * Sets the listener that is notified of the steps taken by resolvers
+   * produced by this factory in matching each model path.
+   * <p>
+   * A resolver produced from a mapped descriptor cache notifies the
+   * listener only of resolutions of model paths that are not found in the
+   * cache's lookup index.
+   * @param resolutionListener resolution listener; the default listener
+   *    ignores all notifications (use a {@link LoggingResolutionListener}
+   *    to log them)
+   */
+  public void setResolutionListener(ResolutionListener resolutionListener) {
+    this.resolutionListener = resolutionListener != null ?
+        resolutionListener : ResolutionListener.NONE;
+  }
+
+  /**
+   * Gets the listener that is notified of the steps taken by resolvers.
+   * @return resolution listener
+   * @see #setResolutionListener(ResolutionListener)
+   */
+  ResolutionListener getResolutionListener() {
+    return resolutionListener;
+  }
+
+  /**
+   * Gets the flag that determines whether resources are discovered lazily.
+   * @return {@code true} if resources are discovered lazily
+   * @see #setLazyDiscovery(boolean)
+   */
+  boolean isLazyDiscovery() {
+    return lazyDiscovery;
+  }
+
+  /**
+   * Sets the maximum number of resolved paths to cache in each resolver
+   * produced by this factory.
+   * <p>
+   * Only paths resolved by substituting template variables directly
+   * &mdash; either using a {@link BindingPathTemplateResolver} or by
+   * position &mdash; are cached.  The default size is zero, which
+   * disables caching.
+   * @param pathCacheSize maximum number of cached paths
+   */
+  public void setPathCacheSize(int pathCacheSize) {
+    this.pathCacheSize = pathCacheSize;
+  }
+
+  /**
+   * Sets the policy used to evict paths from a full path cache.
+   * @param pathCacheEvictionPolicy eviction policy; the default is
+   *    {@link PathCacheEvictionPolicy#LEAST_RECENTLY_USED}
+   */
+  public void setPathCacheEvictionPolicy(
+      PathCacheEvictionPolicy pathCacheEvictionPolicy) {
+    this.pathCacheEvictionPolicy = pathCacheEvictionPolicy;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The resolver is created on the first invocation of this method (or
+   * of {@link #rebuild()}), and is shared by all subsequent invocations.
+   * Concurrent first invocations wait for a single discovery to complete.
+   * If discovery fails, no resolver is retained, and the next invocation
+   * tries again.
+   */
+  @Override
+  public ResourcePathResolver newResolver()
+      throws ResourceConfigurationException {
+    ResourcePathResolver resolver = this.resolver;
+    if (resolver == null) {
+      synchronized (this) {
+        resolver = this.resolver;
+        if (resolver == null) {
+          resolver = build();
+          this.resolver = resolver;
+        }
+      }
+    }
+    return resolver;
+  }
+
+  /**
+   * Discovers resources again, replacing the resolver returned by
+   * {@link #newResolver()}.
+   * <p>
+   * A resolver previously obtained from this factory is unaffected, and
+   * remains usable.  If discovery fails, the shared resolver (if any) is
+   * discarded.
+   * @return the new resolver
+   * @throws ResourceConfigurationException if a configuration error is
+   *    discovered
+   */
+  public synchronized ResourcePathResolver rebuild()
+      throws ResourceConfigurationException {
+    this.resolver = null;
+    final ResourcePathResolver resolver = build();
+    this.resolver = resolver;
+    return resolver;
+  }
+
+  /**
+   * Discards the shared resolver (if any), so that the next invocation of
+   * {@link #newResolver()} discovers resources again.
+   * <p>
+   * A subclass invokes this method when it is (re)initialized.
+   */
+  protected synchronized void reset() {
+    this.resolver = null;
+  }
+
+  /**
+   * Releases the resources held by this factory.
+   * <p>
+   * The registration of the metrics of the shared resolver (if any) is
+   * removed, and the shared resolver is discarded.  A resolver previously
+   * obtained from this factory remains usable.  A web application should
+   * invoke this method when its servlet context is destroyed.
+   */
+  public synchronized void close() {
+    this.resolver = null;
+    unregisterMetrics();
+  }
+
+  private ResourcePathResolver build() throws ResourceConfigurationException {
+    final ExpandedPathCache pathCache = newPathCache();
+    final ResourcePathResolver resolver = createResolver(pathCache);
+    if (!metricsEnabled) return resolver;
+    final ResolverMetrics metrics =
+        new ResolverMetrics(pathCache, metricsTopModelPaths);
+    registerMetrics(metrics);
+    return new MeteredResourcePathResolver(resolver, metrics);
+  }
+
+  private void registerMetrics(ResolverMetrics metrics) {
+    unregisterMetrics();
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName name = new ObjectName(METRICS_DOMAIN
+          + ":type=ResourcePathResolver,path="
+          + ObjectName.quote(getApplicationPath())
+          + ",instance=" + instance);
+      server.registerMBean(metrics, name);
+      this.metricsName = name;
+      logger.debug("registered resolver metrics as {}", name);
+    }
+    catch (JMException ex) {
+      logger.warn("cannot register resolver metrics: {}", ex.toString());
+    }
+  }
+
+  private void unregisterMetrics() {
+    final ObjectName name = this.metricsName;
+    if (name == null) return;
+    this.metricsName = null;
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+      logger.debug("unregistered resolver metrics {}", name);
+    }
+    catch (JMException ex) {
+      logger.warn("cannot unregister resolver metrics: {}", ex.toString());
+    }
+  }
+
+  /**
+   * Gets the name under which the metrics of the shared resolver are
+   * registered.
+   * @return object name or {@code null} if no metrics are registered
+   */
+  synchronized ObjectName metricsName() {
+    return metricsName;
+  }
+
+  /**
+   * Creates a new resolver by discovering resources.
+   * @param pathCache path cache for the resolver or {@code null} to disable
+   *    caching
+   * @return resolver
+   * @throws ResourceConfigurationException if a configuration error is
+   *    discovered
+   */
+  ResourcePathResolver createResolver(ExpandedPathCache pathCache)
+      throws ResourceConfigurationException {
+    if (lazyDiscovery) {
+      return new LazyResourcePathResolver(getApplicationPath(),
+          getReflectionService(),
+          new ReflectionResourceDiscoveryService(1, maxSubResourceDepth),
+          pathCache, resolutionListener);
+    }
+
+    SimpleResourcePathResolver resolver =
+        new SimpleResourcePathResolver(pathCache, resolutionListener);
+
+    discoverResources(resolver);
+    return resolver;
+  }
+
+  /**
+   * Discovers resources, adding a descriptor for each to the given resolver
+   * and then validating the resolver.
+   * <p>
+   * The results of the reflection service are cached for the duration of
+   * the discovery.
+   * @param resolver the subject resolver
+   * @throws ResourceConfigurationException if a configuration error is
+   *    discovered
+   */
+  void discoverResources(SimpleResourcePathResolver resolver)
+      throws ResourceConfigurationException {
+    final ResourceDiscoveryService resourceDiscoveryService =
+        new ReflectionResourceDiscoveryService(discoveryParallelism,
+            maxSubResourceDepth);
+    resourceDiscoveryService.discoverResources(getApplicationPath(),
+        new CachingReflectionService(getReflectionService()), resolver);
+  }
+
+  private ExpandedPathCache newPathCache() {
+    if (pathCacheSize <= 0) return null;
+    return new ExpandedPathCache(pathCacheSize, pathCacheEvictionPolicy);
+  }
+
+  /**
+   * Gets the context-qualified path of the JAX-RS application.
+   * @return application path
+   * @throws IllegalStateException if this factory has not been initialized
+   */
+  protected abstract String getApplicationPath();
+
+  /**
+   * Gets the reflection service to use for resource discovery.
+   * @return reflection service
+   * @throws IllegalStateException if this factory has not been initialized
+   */
+  protected abstract ReflectionService getReflectionService();
+
+}
@@ -0,0 +1,114 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.UriBuilder;
+
+/**
+ * A {@link ResourcePathResolverFactory} that discovers resources among the
+ * classes of a JAX-RS {@link Application}, or among any given set of
+ * classes, instead of scanning the class path.
+ * <p>
+ * Since the factory requires neither class path scanning nor a servlet
+ * context, it is suitable for use with embedded servers and in tests.
+ * Any subtypes of the abstract return types of sub-resource locators must
+ * be included in the set of classes, since only that set is searched for
+ * subtypes.
+ *
+ * @author Carl Harris
+ */
+public class ApplicationResourcePathResolverFactory
+    extends AbstractResourcePathResolverFactory {
+
+  private ReflectionService reflectionService;
+  private String applicationPath;
+
+  /**
+   * Initializes this resolver using the classes of the given application,
+   * at the path specified by the {@link ApplicationPath} annotation of the
+   * application's class.
+   * @param application the subject application
+   * @throws ResourceConfigurationException if the application's class
+   *    has no {@link ApplicationPath} annotation
+   */
+  public void init(Application application)
+      throws ResourceConfigurationException {
+    final ApplicationPath path =
+        application.getClass().getAnnotation(ApplicationPath.class);
+    if (path == null) {
+      throw new ResourceConfigurationException("application class "
+          + application.getClass().getName() + " has no @"
+          + ApplicationPath.class.getSimpleName() + " annotation");
+    }
+    init(UriBuilder.fromPath("/").path(path.value()).toTemplate(),
+        application);
+  }
+
+  /**
+   * Initializes this resolver using the classes of the given application.
+   * <p>
+   * The classes of the application are those returned by
+   * {@link Application#getClasses()} together with the classes of the
+   * objects returned by {@link Application#getSingletons()}.
+   * @param applicationPath the context-qualified JAX-RS application path
+   * @param application the subject application
+   */
+  public void init(String applicationPath, Application application) {
+    final List<Class<?>> classes = new ArrayList<>(
+        application.getClasses());
+    for (Object singleton : application.getSingletons()) {
+      classes.add(singleton.getClass());
+    }
+    init(applicationPath, classes);
+  }
+
+  /**
+   * Initializes this resolver using the given classes.
+   * @param applicationPath the context-qualified JAX-RS application path
+   * @param classes candidate resource classes
+   */
+  public void init(String applicationPath, Collection<Class<?>> classes) {
+    this.applicationPath = applicationPath;
+    this.reflectionService = new ClassSetReflectionService(classes);
+    reset();
+  }
+
+  @Override
+  protected String getApplicationPath() {
+    if (applicationPath == null) {
+      throw new IllegalStateException("factory has not been initialized");
+    }
+    return applicationPath;
+  }
+
+  @Override
+  protected ReflectionService getReflectionService() {
+    if (reflectionService == null) {
+      throw new IllegalStateException("factory has not been initialized");
+    }
+    return reflectionService;
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A {@link PathTemplateResolver} that can bind each variable of a template
+ * to a context lookup strategy in advance of any path resolution.
+ * <p>
+ * When the resolver specified for a resource by a {@link TemplateResolver}
+ * annotation implements this interface, the variables of the resource's
+ * path template are bound once, when the resource is discovered.  A
+ * variable that cannot be bound is reported as a configuration error
+ * at that time, and subsequent path resolution simply evaluates each
+ * binding in turn.
+ *
+ * @author Carl Harris
+ */
+public interface BindingPathTemplateResolver extends PathTemplateResolver {
+
+  /**
+   * Binds a template variable to a strategy for obtaining its value.
+   * @param variable name of the template variable
+   * @return binding for {@code variable} or {@code null} if this resolver
+   *    does not recognize {@code variable}
+   */
+  TemplateVariableBinding bind(String variable);
+
+}
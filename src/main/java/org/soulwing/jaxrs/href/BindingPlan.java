@@ -0,0 +1,102 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.List;
+
+/**
+ * A compiled plan for binding the variables of a path template to values
+ * obtained from a {@link PathTemplateContext}.
+ * <p>
+ * A plan holds a binding for each variable of its template, in template
+ * order, so that resolving a path is a single pass over the bindings
+ * followed by expansion of the template.
+ *
+ * @author Carl Harris
+ */
+class BindingPlan {
+
+  private final PathTemplate template;
+  private final TemplateVariableBinding[] bindings;
+
+  private BindingPlan(PathTemplate template,
+      TemplateVariableBinding[] bindings) {
+    this.template = template;
+    this.bindings = bindings;
+  }
+
+  /**
+   * Compiles a binding plan for the given template.
+   * @param template the subject template
+   * @param resolver resolver that will provide a binding for each variable
+   *    of {@code template}
+   * @return binding plan
+   * @throws ResourceConfigurationException if {@code resolver} provides no
+   *    binding for some variable of {@code template}
+   */
+  public static BindingPlan compile(PathTemplate template,
+      BindingPathTemplateResolver resolver)
+      throws ResourceConfigurationException {
+    final List<String> variables = template.variables();
+    final TemplateVariableBinding[] bindings =
+        new TemplateVariableBinding[variables.size()];
+    for (int i = 0; i < bindings.length; i++) {
+      bindings[i] = resolver.bind(variables.get(i));
+      if (bindings[i] == null) {
+        throw new ResourceConfigurationException("resolver "
+            + resolver.getClass().getSimpleName()
+            + " has no binding for variable '" + variables.get(i)
+            + "' in path template '" + template + "'");
+      }
+    }
+    return new BindingPlan(template, bindings);
+  }
+
+  /**
+   * Gets the template associated with this plan.
+   * @return path template
+   */
+  public PathTemplate template() {
+    return template;
+  }
+
+  /**
+   * Obtains the values of the variables of the template associated with
+   * this plan.
+   * @param context context from which variable values are obtained
+   * @return variable values in template order
+   */
+  public Object[] bind(PathTemplateContext context) {
+    final Object[] values = new Object[bindings.length];
+    for (int i = 0; i < bindings.length; i++) {
+      values[i] = bindings[i].valueOf(context);
+    }
+    return values;
+  }
+
+  /**
+   * Resolves the template associated with this plan.
+   * @param context context from which variable values are obtained
+   * @return resolved path
+   */
+  public String resolve(PathTemplateContext context) {
+    return template.expand(bind(context));
+  }
+
+}
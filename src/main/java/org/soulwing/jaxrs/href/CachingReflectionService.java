@@ -0,0 +1,190 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link ReflectionService} that memoizes the results of a delegate.
+ * <p>
+ * Discovery queries the annotations of each resource method several
+ * times, and may query the methods and subtypes of the same type many
+ * times when a sub-resource type is reached through different parents.
+ * This decorator caches annotations by subject and annotation type,
+ * methods by type, and subtypes and annotated types by the queried type.
+ * A new instance is intended to be used for the duration of a single
+ * discovery, so that the cached results can be reclaimed once discovery
+ * completes.
+ * <p>
+ * An instance of this class is safe for concurrent use, provided that
+ * the delegate is safe for concurrent use.
+ *
+ * @author Carl Harris
+ */
+class CachingReflectionService implements ReflectionService {
+
+  private static final Object NONE = new Object();
+
+  private final ConcurrentMap<AnnotationKey, Object> annotations =
+      new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<Class<?>, Method[]> methods =
+      new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<Class<?>, Set<?>> subTypes =
+      new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<Class<?>, Set<Class<?>>> annotatedTypes =
+      new ConcurrentHashMap<>();
+
+  private final ReflectionService delegate;
+
+  /**
+   * Constructs a new instance.
+   * @param delegate the reflection service whose results are to be cached
+   */
+  CachingReflectionService(ReflectionService delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+    Set<?> result = subTypes.get(type);
+    if (result == null) {
+      result = Collections.unmodifiableSet(delegate.getSubTypesOf(type));
+      subTypes.putIfAbsent(type, result);
+    }
+    return (Set<Class<? extends T>>) result;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Set<Class<?>> getTypesAnnotatedWith(
+      Class<? extends Annotation> annotation) {
+    Set<Class<?>> result = annotatedTypes.get(annotation);
+    if (result == null) {
+      result = Collections.unmodifiableSet(
+          delegate.getTypesAnnotatedWith(annotation));
+      annotatedTypes.putIfAbsent(annotation, result);
+    }
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <A extends Annotation> A getAnnotation(Class<?> subjectType,
+      Class<A> annotationType) {
+    final AnnotationKey key = new AnnotationKey(subjectType, annotationType);
+    Object result = annotations.get(key);
+    if (result == null) {
+      result = delegate.getAnnotation(subjectType, annotationType);
+      annotations.putIfAbsent(key, result != null ? result : NONE);
+    }
+    return result != NONE ? annotationType.cast(result) : null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <A extends Annotation> A getAnnotation(Method subjectMethod,
+      Class<A> annotationType) {
+    final AnnotationKey key = new AnnotationKey(subjectMethod, annotationType);
+    Object result = annotations.get(key);
+    if (result == null) {
+      result = delegate.getAnnotation(subjectMethod, annotationType);
+      annotations.putIfAbsent(key, result != null ? result : NONE);
+    }
+    return result != NONE ? annotationType.cast(result) : null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isAbstractType(Class<?> type) {
+    return delegate.isAbstractType(type);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned array is shared by all callers and must not be modified.
+   */
+  @Override
+  public Method[] getMethods(Class<?> type) {
+    Method[] result = methods.get(type);
+    if (result == null) {
+      result = delegate.getMethods(type);
+      methods.putIfAbsent(type, result);
+    }
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Class<?> getReturnType(Method method) {
+    return delegate.getReturnType(method);
+  }
+
+  /**
+   * A cache key for an annotation of a type or method.
+   */
+  private static class AnnotationKey {
+
+    private final Object subject;
+    private final Class<?> annotationType;
+
+    AnnotationKey(Object subject, Class<?> annotationType) {
+      this.subject = subject;
+      this.annotationType = annotationType;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * subject.hashCode() + annotationType.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof AnnotationKey)) return false;
+      final AnnotationKey that = (AnnotationKey) obj;
+      return this.subject.equals(that.subject)
+          && this.annotationType.equals(that.annotationType);
+    }
+
+  }
+
+}
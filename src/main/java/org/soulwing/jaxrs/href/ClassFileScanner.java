@@ -0,0 +1,486 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A scanner that finds the names of the classes in a set of class path
+ * locations that bear any of a given set of type-level annotations.
+ * <p>
+ * Class files are read without loading them; only the constant pool and
+ * the {@code RuntimeVisibleAnnotations} attribute of each class are
+ * examined.  A class file whose constant pool does not mention any of the
+ * annotations is rejected as soon as the constant pool has been read.
+ * Each location (a directory or a JAR file) is scanned by a separate task,
+ * and the results are returned in location order, so that the result does
+ * not depend on the order in which the tasks complete.
+ * <p>
+ * A location that contains a {@link ResourceIndex} is not scanned at all;
+ * the names of the candidate types are taken from the index instead.  A
+ * JAR file cannot otherwise be ruled out without reading its entries, so
+ * each class file of a location that has no index is read, and rejected
+ * after its constant pool has been read if it never mentions any of the
+ * annotations.
+ * <p>
+ * A location (or a class file within it) that cannot be read is logged and
+ * skipped, so that a single corrupt JAR file does not prevent the other
+ * locations from being scanned.
+ * <p>
+ * A {@link ScanFilter} may be used to limit the JAR files and classes
+ * that are examined; a class file that the filter rejects (by name) is
+ * not read at all.
+ *
+ * @author Carl Harris
+ */
+class ClassFileScanner {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(ClassFileScanner.class);
+
+  private static final int MAGIC = 0xcafebabe;
+
+  private static final String CLASS_SUFFIX = ".class";
+
+  private static final String ANNOTATIONS_ATTRIBUTE =
+      "RuntimeVisibleAnnotations";
+
+  private static final int CONSTANT_UTF8 = 1;
+  private static final int CONSTANT_INTEGER = 3;
+  private static final int CONSTANT_FLOAT = 4;
+  private static final int CONSTANT_LONG = 5;
+  private static final int CONSTANT_DOUBLE = 6;
+  private static final int CONSTANT_CLASS = 7;
+  private static final int CONSTANT_STRING = 8;
+  private static final int CONSTANT_FIELDREF = 9;
+  private static final int CONSTANT_METHODREF = 10;
+  private static final int CONSTANT_INTERFACE_METHODREF = 11;
+  private static final int CONSTANT_NAME_AND_TYPE = 12;
+  private static final int CONSTANT_METHOD_HANDLE = 15;
+  private static final int CONSTANT_METHOD_TYPE = 16;
+  private static final int CONSTANT_DYNAMIC = 17;
+  private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+  private static final int CONSTANT_MODULE = 19;
+  private static final int CONSTANT_PACKAGE = 20;
+
+  private final Set<String> descriptors = new HashSet<>();
+  private final int parallelism;
+  private final ScanFilter filter;
+
+  /**
+   * Constructs a new instance that scans all classes and JAR files.
+   * @param annotationTypes the annotations of interest
+   * @param parallelism maximum number of locations to scan concurrently
+   */
+  ClassFileScanner(Collection<Class<?>> annotationTypes, int parallelism) {
+    this(annotationTypes, parallelism, new ScanFilter());
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param annotationTypes the annotations of interest
+   * @param parallelism maximum number of locations to scan concurrently
+   * @param filter filter for the classes and JAR files to scan
+   */
+  ClassFileScanner(Collection<Class<?>> annotationTypes, int parallelism,
+      ScanFilter filter) {
+    for (Class<?> annotationType : annotationTypes) {
+      descriptors.add("L" + annotationType.getName().replace('.', '/') + ";");
+    }
+    this.parallelism = parallelism;
+    this.filter = filter;
+  }
+
+  /**
+   * Scans the given locations.
+   * @param urls class path locations; locations that are not {@code file:}
+   *    URLs are ignored
+   * @return binary names of the classes that bear any of the annotations
+   *    of interest
+   */
+  List<String> scan(Collection<URL> urls) {
+    final List<File> locations = new ArrayList<>();
+    for (URL url : urls) {
+      final File location = toFile(url);
+      if (location == null) {
+        logger.warn("ignoring class path location {}", url);
+        continue;
+      }
+      if (location.isFile() && !filter.acceptsJar(location.getName())) {
+        logger.trace("skipping filtered JAR {}", location);
+        continue;
+      }
+      locations.add(location);
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+    try {
+      final List<ForkJoinTask<List<String>>> tasks =
+          new ArrayList<>(locations.size());
+      for (final File location : locations) {
+        tasks.add(pool.submit(new Callable<List<String>>() {
+          @Override
+          public List<String> call() {
+            try {
+              return scan(location);
+            }
+            catch (IOException ex) {
+              logger.warn("skipping unreadable class path location {}: {}",
+                  location, ex.toString());
+              return Collections.emptyList();
+            }
+          }
+        }));
+      }
+      final List<String> classNames = new ArrayList<>();
+      for (ForkJoinTask<List<String>> task : tasks) {
+        classNames.addAll(task.join());
+      }
+      return classNames;
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private static File toFile(URL url) {
+    if (!"file".equals(url.getProtocol())) return null;
+    try {
+      return new File(url.toURI());
+    }
+    catch (URISyntaxException | IllegalArgumentException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Scans a single location.
+   * @param location a directory or JAR file
+   * @return sorted list of binary names of the classes that bear any of
+   *    the annotations of interest
+   * @throws IOException if an error occurs in reading the location
+   */
+  List<String> scan(File location) throws IOException {
+    final List<String> classNames = new ArrayList<>();
+    if (location.isDirectory()) {
+      scanDirectory(location.toPath(), classNames);
+    }
+    else if (location.isFile()) {
+      scanJar(location, classNames);
+    }
+    Collections.sort(classNames);
+    logger.trace("found {} annotated classes in {}", classNames.size(),
+        location);
+    return classNames;
+  }
+
+  private void scanDirectory(final Path directory,
+      final List<String> classNames) throws IOException {
+    final Path index = directory.resolve(ResourceIndex.RESOURCE_NAME);
+    if (Files.isRegularFile(index)) {
+      try (InputStream inputStream = Files.newInputStream(index)) {
+        addIndexed(inputStream, directory.toString(), classNames);
+      }
+      return;
+    }
+    Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        if (file.getFileName().toString().endsWith(CLASS_SUFFIX)
+            && accepts(directory.relativize(file).toString()
+                .replace(File.separatorChar, '/'))) {
+          try {
+            addIfAnnotated(ByteBuffer.wrap(Files.readAllBytes(file)),
+                file.toString(), classNames);
+          }
+          catch (IOException ex) {
+            logger.warn("skipping unreadable class file {}: {}", file,
+                ex.toString());
+          }
+        }
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFileFailed(Path file, IOException ex) {
+        logger.warn("skipping unreadable file {}: {}", file, ex.toString());
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private void scanJar(File jar, List<String> classNames) throws IOException {
+    try (ZipFile zipFile = new ZipFile(jar)) {
+      final ZipEntry index = zipFile.getEntry(ResourceIndex.RESOURCE_NAME);
+      if (index != null) {
+        try (InputStream inputStream = zipFile.getInputStream(index)) {
+          addIndexed(inputStream, jar.toString(), classNames);
+        }
+        return;
+      }
+      final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements()) {
+        final ZipEntry entry = entries.nextElement();
+        if (entry.isDirectory() || !entry.getName().endsWith(CLASS_SUFFIX)
+            || !accepts(entry.getName())) {
+          continue;
+        }
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+          addIfAnnotated(ByteBuffer.wrap(readAll(inputStream,
+              (int) entry.getSize())), jar + "!" + entry.getName(), classNames);
+        }
+        catch (IOException ex) {
+          logger.warn("skipping unreadable class file {}!{}: {}", jar,
+              entry.getName(), ex.toString());
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the names of the types listed in a resource index that are
+   * accepted by the filter.
+   * @param inputStream input stream positioned at the start of the index
+   * @param source location of the index (for logging)
+   * @param classNames list to which the type names will be added
+   * @throws IOException if an error occurs in reading the index
+   */
+  private void addIndexed(InputStream inputStream, String source,
+      List<String> classNames) throws IOException {
+    final ResourceIndex index = ResourceIndex.read(
+        new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    for (String typeName : index.typeNames()) {
+      if (filter.acceptsClass(typeName)) {
+        classNames.add(typeName);
+      }
+    }
+    logger.trace("using resource index of {}", source);
+  }
+
+  /**
+   * Tests whether the class file at the given path should be read.
+   * @param path path of the class file, relative to the root of its
+   *    location, using {@code /} as a separator
+   * @return {@code true} if the class file should be read
+   */
+  private boolean accepts(String path) {
+    final String className = path.substring(0,
+        path.length() - CLASS_SUFFIX.length()).replace('/', '.');
+    return filter.acceptsClass(className);
+  }
+
+  private void addIfAnnotated(ByteBuffer classFile, String source,
+      List<String> classNames) {
+    try {
+      final String className = annotatedClassName(classFile);
+      if (className != null) {
+        classNames.add(className);
+      }
+    }
+    catch (BufferUnderflowException | IllegalArgumentException ex) {
+      logger.debug("ignoring malformed class file {}", source);
+    }
+  }
+
+  private static byte[] readAll(InputStream inputStream, int size)
+      throws IOException {
+    final ByteArrayOutputStream outputStream =
+        new ByteArrayOutputStream(size > 0 ? size : 4096);
+    final byte[] buf = new byte[4096];
+    int count;
+    while ((count = inputStream.read(buf)) != -1) {
+      outputStream.write(buf, 0, count);
+    }
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Examines a class file.
+   * @param classFile buffer containing the class file
+   * @return binary name of the class if it bears any of the annotations of
+   *    interest, otherwise {@code null}
+   * @throws IllegalArgumentException if the buffer does not contain a
+   *    class file
+   * @throws BufferUnderflowException if the class file is truncated
+   */
+  String annotatedClassName(ByteBuffer classFile) {
+    if (classFile.getInt() != MAGIC) {
+      throw new IllegalArgumentException("not a class file");
+    }
+    classFile.getShort();   // minor version
+    classFile.getShort();   // major version
+
+    final int count = classFile.getShort() & 0xffff;
+    final String[] utf8 = new String[count];
+    final int[] classes = new int[count];
+    boolean mentioned = false;
+    for (int i = 1; i < count; i++) {
+      final int tag = classFile.get();
+      switch (tag) {
+        case CONSTANT_UTF8:
+          utf8[i] = readUtf8(classFile);
+          mentioned |= descriptors.contains(utf8[i]);
+          break;
+        case CONSTANT_CLASS:
+          classes[i] = classFile.getShort() & 0xffff;
+          break;
+        case CONSTANT_STRING:
+        case CONSTANT_METHOD_TYPE:
+        case CONSTANT_MODULE:
+        case CONSTANT_PACKAGE:
+          skip(classFile, 2);
+          break;
+        case CONSTANT_METHOD_HANDLE:
+          skip(classFile, 3);
+          break;
+        case CONSTANT_INTEGER:
+        case CONSTANT_FLOAT:
+        case CONSTANT_FIELDREF:
+        case CONSTANT_METHODREF:
+        case CONSTANT_INTERFACE_METHODREF:
+        case CONSTANT_NAME_AND_TYPE:
+        case CONSTANT_DYNAMIC:
+        case CONSTANT_INVOKE_DYNAMIC:
+          skip(classFile, 4);
+          break;
+        case CONSTANT_LONG:
+        case CONSTANT_DOUBLE:
+          skip(classFile, 8);
+          i++;
+          break;
+        default:
+          throw new IllegalArgumentException("unknown constant tag " + tag);
+      }
+    }
+
+    if (!mentioned) return null;
+
+    classFile.getShort();   // access flags
+    final int thisClass = classFile.getShort() & 0xffff;
+    classFile.getShort();   // super class
+    skip(classFile, 2 * (classFile.getShort() & 0xffff));
+    skipMembers(classFile);   // fields
+    skipMembers(classFile);   // methods
+
+    final int attributeCount = classFile.getShort() & 0xffff;
+    for (int i = 0; i < attributeCount; i++) {
+      final String name = utf8[classFile.getShort() & 0xffff];
+      final int length = classFile.getInt();
+      if (!ANNOTATIONS_ATTRIBUTE.equals(name)) {
+        skip(classFile, length);
+        continue;
+      }
+      final int annotationCount = classFile.getShort() & 0xffff;
+      for (int j = 0; j < annotationCount; j++) {
+        if (descriptors.contains(utf8[classFile.getShort() & 0xffff])) {
+          return utf8[classes[thisClass]].replace('/', '.');
+        }
+        skipElementValuePairs(classFile);
+      }
+    }
+    return null;
+  }
+
+  private static String readUtf8(ByteBuffer classFile) {
+    final int length = classFile.getShort() & 0xffff;
+    final byte[] bytes = new byte[length];
+    classFile.get(bytes);
+    // modified UTF-8 differs from UTF-8 only for NUL and supplementary
+    // characters, neither of which can appear in the names we match
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void skipMembers(ByteBuffer classFile) {
+    final int count = classFile.getShort() & 0xffff;
+    for (int i = 0; i < count; i++) {
+      skip(classFile, 6);   // access flags, name, descriptor
+      final int attributeCount = classFile.getShort() & 0xffff;
+      for (int j = 0; j < attributeCount; j++) {
+        skip(classFile, 2);
+        skip(classFile, classFile.getInt());
+      }
+    }
+  }
+
+  private static void skipElementValuePairs(ByteBuffer classFile) {
+    final int count = classFile.getShort() & 0xffff;
+    for (int i = 0; i < count; i++) {
+      skip(classFile, 2);   // element name
+      skipElementValue(classFile);
+    }
+  }
+
+  private static void skipElementValue(ByteBuffer classFile) {
+    final char tag = (char) classFile.get();
+    switch (tag) {
+      case 'e':
+        skip(classFile, 4);
+        break;
+      case '@':
+        skip(classFile, 2);
+        skipElementValuePairs(classFile);
+        break;
+      case '[':
+        final int count = classFile.getShort() & 0xffff;
+        for (int i = 0; i < count; i++) {
+          skipElementValue(classFile);
+        }
+        break;
+      default:
+        skip(classFile, 2);
+        break;
+    }
+  }
+
+  private static void skip(ByteBuffer classFile, int count) {
+    // invoked as a Buffer method so that this links on a Java 8 runtime
+    ((Buffer) classFile).position(classFile.position() + count);
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReflectionService} that discovers types from a closed set of
+ * candidate classes, rather than by scanning the class path.
+ *
+ * @author Carl Harris
+ */
+class ClassSetReflectionService extends AbstractReflectionService {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(ClassSetReflectionService.class);
+
+  private final Set<Class<?>> classes;
+
+  /**
+   * Constructs a new instance.
+   * @param classes the candidate classes
+   */
+  ClassSetReflectionService(Collection<Class<?>> classes) {
+    this.classes = new LinkedHashSet<>(classes);
+  }
+
+  /**
+   * Creates a new instance for the named candidate classes.
+   * <p>
+   * A class that cannot be loaded is logged and skipped.
+   * @param classNames binary names of the candidate classes
+   * @param classLoader class loader to use to load the classes
+   * @return reflection service
+   */
+  static ClassSetReflectionService forNames(Collection<String> classNames,
+      ClassLoader classLoader) {
+    final List<Class<?>> classes = new ArrayList<>(classNames.size());
+    for (String className : classNames) {
+      try {
+        classes.add(Class.forName(className, false, classLoader));
+      }
+      catch (ClassNotFoundException | LinkageError ex) {
+        logger.warn("skipping type {}: {}", className, ex.toString());
+      }
+    }
+    logger.debug("loaded {} candidate types", classes.size());
+    return new ClassSetReflectionService(classes);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+    final Set<Class<? extends T>> subTypes = new LinkedHashSet<>();
+    for (Class<?> candidate : classes) {
+      if (candidate != type && type.isAssignableFrom(candidate)) {
+        subTypes.add((Class<? extends T>) candidate);
+      }
+    }
+    return subTypes;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Set<Class<?>> getTypesAnnotatedWith(
+      Class<? extends Annotation> annotation) {
+    final Set<Class<?>> types = new LinkedHashSet<>();
+    for (Class<?> candidate : classes) {
+      if (candidate.isAnnotationPresent(annotation)) {
+        types.add(candidate);
+      }
+    }
+    return types;
+  }
+
+}
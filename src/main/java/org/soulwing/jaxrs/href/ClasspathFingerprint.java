@@ -0,0 +1,105 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A utility that computes a fingerprint for a set of class path locations.
+ * <p>
+ * The fingerprint is a SHA-256 digest of the name, size, and modification
+ * time of each JAR file and of each file beneath each directory in the
+ * set.  It changes whenever a location is added, removed, or modified,
+ * but is computed without reading the content of any file.
+ *
+ * @author Carl Harris
+ */
+class ClasspathFingerprint {
+
+  private static final String ALGORITHM = "SHA-256";
+
+  /**
+   * Computes the fingerprint of a set of class path locations.
+   * @param qualifier a string to include in the fingerprint (e.g. the
+   *    application path), so that tables discovered using different
+   *    configurations have different fingerprints
+   * @param urls the class path locations
+   * @return fingerprint or {@code null} if any location is not a
+   *    {@code file:} URL
+   */
+  static byte[] of(String qualifier, Collection<URL> urls) {
+    final List<String> entries = new ArrayList<>();
+    for (URL url : urls) {
+      final File file = toFile(url);
+      if (file == null) return null;
+      addEntries(file, entries);
+    }
+    Collections.sort(entries);
+    final MessageDigest digest = newDigest();
+    digest.update(qualifier.getBytes(StandardCharsets.UTF_8));
+    for (String entry : entries) {
+      digest.update((byte) 0);
+      digest.update(entry.getBytes(StandardCharsets.UTF_8));
+    }
+    return digest.digest();
+  }
+
+  private static File toFile(URL url) {
+    if (!"file".equals(url.getProtocol())) return null;
+    try {
+      return new File(url.toURI());
+    }
+    catch (URISyntaxException | IllegalArgumentException ex) {
+      return null;
+    }
+  }
+
+  private static void addEntries(File file, List<String> entries) {
+    if (file.isDirectory()) {
+      final File[] files = file.listFiles();
+      if (files == null) return;
+      for (File child : files) {
+        addEntries(child, entries);
+      }
+    }
+    else {
+      entries.add(file.getAbsolutePath() + "|" + file.length()
+          + "|" + file.lastModified());
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    }
+    catch (NoSuchAlgorithmException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+}
@@ -23,13 +23,8 @@ package org.soulwing.jaxrs.href;
  *
  * @author Carl Harris
  */
-interface ConfigurableResourcePathResolver extends ResourcePathResolver {
-
-  /**
-   * Adds a resource descriptor to the resolver.
-   * @param descriptor the descriptor to add
-   */
-  void addDescriptor(ResourceDescriptor descriptor);
+interface ConfigurableResourcePathResolver
+    extends ResourcePathResolver, DescriptorSink {
 
   /**
    * Validates the configuration of this resolver.
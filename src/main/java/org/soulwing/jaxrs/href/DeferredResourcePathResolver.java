@@ -0,0 +1,140 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link ResourcePathResolver} that delegates to a resolver that is
+ * produced by a discovery that may still be in progress.
+ * <p>
+ * The first invocation of a resolve method waits (for at most a given
+ * timeout) for the discovery to complete; thereafter every invocation
+ * delegates directly to the discovered resolver without waiting.
+ *
+ * @author Carl Harris
+ */
+class DeferredResourcePathResolver implements ResourcePathResolver {
+
+  private final Future<ResourcePathResolver> future;
+  private final long timeout;
+  private final TimeUnit timeUnit;
+
+  private volatile ResourcePathResolver delegate;
+
+  /**
+   * Constructs a new instance.
+   * @param future future result of discovery
+   * @param timeout maximum time to wait for discovery to complete
+   * @param timeUnit unit for {@code timeout}
+   */
+  DeferredResourcePathResolver(Future<ResourcePathResolver> future,
+      long timeout, TimeUnit timeUnit) {
+    this.future = future;
+    this.timeout = timeout;
+    this.timeUnit = timeUnit;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(PathTemplateContext context,
+      Class<?>... modelTypes) {
+    return delegate().resolve(context, modelTypes);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolveWith(Object[] values, Class<?>... modelTypes) {
+    return delegate().resolveWith(values, modelTypes);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ResourcePathHandle handle(Class<?>... modelTypes) {
+    return delegate().handle(modelTypes);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation waits for discovery to complete, and then warms
+   * up the discovered resolver.
+   */
+  @Override
+  public long warmUp() throws ResourceConfigurationException {
+    final long start = System.nanoTime();
+    delegate().warmUp();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  /**
+   * Gets the discovered resolver, waiting for discovery to complete if
+   * necessary.
+   * @return resolver
+   * @throws ResourceConfigurationException if discovery failed due to
+   *    a configuration error
+   * @throws IllegalStateException if discovery did not complete within
+   *    the timeout, was cancelled or interrupted, or failed for any other
+   *    reason
+   */
+  ResourcePathResolver delegate() {
+    ResourcePathResolver delegate = this.delegate;
+    if (delegate == null) {
+      delegate = await();
+      this.delegate = delegate;
+    }
+    return delegate;
+  }
+
+  private ResourcePathResolver await() {
+    try {
+      return future.get(timeout, timeUnit);
+    }
+    catch (TimeoutException ex) {
+      throw new IllegalStateException("resource discovery did not complete"
+          + " within " + timeout + " " + timeUnit.name().toLowerCase(), ex);
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(
+          "interrupted while waiting for resource discovery", ex);
+    }
+    catch (CancellationException ex) {
+      throw new IllegalStateException("resource discovery was cancelled", ex);
+    }
+    catch (ExecutionException ex) {
+      final Throwable cause = ex.getCause();
+      if (cause instanceof ResourceConfigurationException) {
+        throw (ResourceConfigurationException) cause;
+      }
+      throw new IllegalStateException("resource discovery failed", cause);
+    }
+  }
+
+}
@@ -19,8 +19,6 @@
 package org.soulwing.jaxrs.href;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.Set;
 
 import org.reflections.Reflections;
@@ -31,7 +29,7 @@ import org.reflections.Reflections;
  *
  * @author Carl Harris
  */
-public class DelegatingReflectionService implements ReflectionService {
+public class DelegatingReflectionService extends AbstractReflectionService {
 
   private final Reflections reflections;
   
@@ -60,46 +58,4 @@ public class DelegatingReflectionService implements ReflectionService {
     return reflections.getTypesAnnotatedWith(annotation);
   }
 
-  /**
-   * {@inheritDoc}
-   */
-  @Override
-  public <A extends Annotation> A getAnnotation(Class<?> subjectType,
-      Class<A> annotationType) {
-    return subjectType.getAnnotation(annotationType);
-  }
-
-  /**
-   * {@inheritDoc}
-   */
-  @Override
-  public <A extends Annotation> A getAnnotation(Method subjectMethod,
-      Class<A> annotationType) {
-    return subjectMethod.getAnnotation(annotationType);
-  }
-
-  /**
-   * {@inheritDoc}
-   */
-  @Override
-  public boolean isAbstractType(Class<?> type) {
-    return type.isInterface() || (type.getModifiers() & Modifier.ABSTRACT) != 0;
-  }
-
-  /**
-   * {@inheritDoc}
-   */
-  @Override
-  public Method[] getMethods(Class<?> type) {
-    return type.getMethods();
-  }
-
-  /**
-   * {@inheritDoc}
-   */
-  @Override
-  public Class<?> getReturnType(Method method) {
-    return method.getReturnType();
-  }
-
 }
@@ -0,0 +1,81 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link DescriptorSink} that merely collects the descriptors added to
+ * it, in the order in which they are added.
+ * <p>
+ * A collector is used to gather the descriptors produced by a discovery
+ * task so that they can be added to the target resolver at some later
+ * point.
+ *
+ * @author Carl Harris
+ */
+class DescriptorCollector implements DescriptorSink {
+
+  private final List<ResourceDescriptor> descriptors = new ArrayList<>();
+
+  private final String basePath;
+
+  /**
+   * Constructs a new instance that shares no base path.
+   */
+  DescriptorCollector() {
+    this("");
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param basePath base path shared by the path templates of the
+   *    descriptors added to this collector
+   */
+  DescriptorCollector(String basePath) {
+    this.basePath = basePath;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String basePath() {
+    return basePath;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addDescriptor(ResourceDescriptor descriptor) {
+    descriptors.add(descriptor);
+  }
+
+  /**
+   * Gets the descriptors that have been added to this collector.
+   * @return unmodifiable list of descriptors, in the order they were added
+   */
+  List<ResourceDescriptor> descriptors() {
+    return Collections.unmodifiableList(descriptors);
+  }
+
+}
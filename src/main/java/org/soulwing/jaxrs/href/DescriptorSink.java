@@ -0,0 +1,49 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A recipient of the {@link ResourceDescriptor} objects produced by
+ * resource introspection.
+ *
+ * @author Carl Harris
+ */
+interface DescriptorSink {
+
+  /**
+   * Gets the base path shared by the path templates of the descriptors
+   * added to this sink.
+   * <p>
+   * The default implementation returns the empty string, so that no base
+   * path is shared.
+   * @return base path (typically the context-qualified application path)
+   *    or the empty string
+   * @see PathTemplate#compile(String, String)
+   */
+  default String basePath() {
+    return "";
+  }
+
+  /**
+   * Adds a resource descriptor to this sink.
+   * @param descriptor the descriptor to add
+   */
+  void addDescriptor(ResourceDescriptor descriptor);
+
+}
@@ -0,0 +1,498 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact binary table of resource descriptors.
+ * <p>
+ * The table has a fixed layout consisting of a header, a string table,
+ * a pattern (model path) table, an array of fixed-size descriptor
+ * records, and a lookup index.  Each record refers to strings and patterns
+ * by index, so each distinct class name or path appears only once in the
+ * table.
+ * <pre>
+ * header:    magic, version, fingerprint[32], string count, pattern count,
+ *            record count, lookup count, string index offset,
+ *            pattern index offset, record offset, lookup offset
+ * strings:   index of (absolute) offsets, then entries of the form
+ *            length, UTF-8 bytes
+ * patterns:  index of (absolute) offsets, then entries of the form
+ *            length, string index...
+ * records:   resource type, resource name, path, template resolver class
+ *            (all string indexes), pattern index
+ * lookup:    entries of the form model path hash, record index, sorted
+ *            by hash, for each record whose model path has no wildcards
+ * </pre>
+ * All integers are 32-bit, big-endian.  Since the table is read using
+ * absolute offsets only, it can be read from a {@link MappedByteBuffer}
+ * (see {@link #map(File)}), in which case all processes on a host that
+ * map the same file share a single copy of the table in the page cache.
+ *
+ * @author Carl Harris
+ */
+class DescriptorTable {
+
+  static final int MAGIC = 0x4a524844;
+
+  static final int VERSION = 2;
+
+  static final int FINGERPRINT_LENGTH = 32;
+
+  static final int HEADER_SIZE = 8 + FINGERPRINT_LENGTH + 32;
+
+  static final int RECORD_SIZE = 20;
+
+  static final int LOOKUP_SIZE = 8;
+
+  private static final int STRING_COUNT = 8 + FINGERPRINT_LENGTH;
+  private static final int PATTERN_COUNT = STRING_COUNT + 4;
+  private static final int RECORD_COUNT = PATTERN_COUNT + 4;
+  private static final int LOOKUP_COUNT = RECORD_COUNT + 4;
+  private static final int STRING_INDEX = LOOKUP_COUNT + 4;
+  private static final int PATTERN_INDEX = STRING_INDEX + 4;
+  private static final int RECORDS = PATTERN_INDEX + 4;
+  private static final int LOOKUP = RECORDS + 4;
+
+  private static final int RESOURCE_TYPE = 0;
+  private static final int RESOURCE_NAME = 4;
+  private static final int PATH = 8;
+  private static final int TEMPLATE_RESOLVER = 12;
+  private static final int PATTERN = 16;
+
+  private final ByteBuffer buffer;
+
+  private DescriptorTable(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Creates a table view of the given buffer.
+   * @param buffer buffer containing a descriptor table
+   * @return descriptor table
+   * @throws IOException if {@code buffer} does not contain a table of the
+   *    supported version
+   */
+  static DescriptorTable of(ByteBuffer buffer) throws IOException {
+    if (buffer.limit() < HEADER_SIZE
+        || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+      throw new IOException("not a descriptor table");
+    }
+    return new DescriptorTable(buffer);
+  }
+
+  /**
+   * Reads a table from a file.
+   * @param file the file to read
+   * @return descriptor table
+   * @throws IOException if the file cannot be read or does not contain a
+   *    table of the supported version
+   */
+  static DescriptorTable read(File file) throws IOException {
+    return of(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+  }
+
+  /**
+   * Maps a table from a file.
+   * <p>
+   * The file is mapped read-only; a table that is subsequently replaced
+   * using {@link #write(File, byte[], Collection)} does not affect the
+   * mapping, since the replacement is a new file.
+   * @param file the file to map
+   * @return descriptor table
+   * @throws IOException if the file cannot be mapped or does not contain a
+   *    table of the supported version
+   */
+  static DescriptorTable map(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(),
+        StandardOpenOption.READ)) {
+      return of(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Encodes a table for the given descriptors.
+   * @param fingerprint fingerprint of the class path from which the
+   *    descriptors were discovered
+   * @param descriptors the descriptors to encode
+   * @return buffer containing the encoded table
+   */
+  static ByteBuffer encode(byte[] fingerprint,
+      Collection<? extends AbstractResourceDescriptor> descriptors) {
+    final Map<String, Integer> strings = new LinkedHashMap<>();
+    final Map<List<String>, Integer> patterns = new LinkedHashMap<>();
+    final int[] records = new int[descriptors.size() * RECORD_SIZE / 4];
+    final List<long[]> lookup = new ArrayList<>();
+    int i = 0;
+    for (AbstractResourceDescriptor descriptor : descriptors) {
+      if (isExact(descriptor.referencedBy())) {
+        lookup.add(new long[] { hash(descriptor.referencedBy().asArray()),
+            i / (RECORD_SIZE / 4) });
+      }
+      records[i++] = indexOf(descriptor.resourceType(), strings);
+      records[i++] = indexOf(descriptor.resourceName(), strings);
+      records[i++] = indexOf(descriptor.path(), strings);
+      records[i++] = indexOf(descriptor.templateResolver().getClass().getName(),
+          strings);
+      final List<String> pattern = new ArrayList<>();
+      for (Class<?> modelType : descriptor.referencedBy().asList()) {
+        pattern.add(modelType.getName());
+        indexOf(modelType.getName(), strings);
+      }
+      records[i++] = indexOf(pattern, patterns);
+    }
+
+    final List<byte[]> encodedStrings = new ArrayList<>(strings.size());
+    int stringsSize = 4 * strings.size();
+    for (String s : strings.keySet()) {
+      final byte[] encoded = s.getBytes(StandardCharsets.UTF_8);
+      encodedStrings.add(encoded);
+      stringsSize += 4 + encoded.length;
+    }
+    int patternsSize = 4 * patterns.size();
+    for (List<String> pattern : patterns.keySet()) {
+      patternsSize += 4 + 4 * pattern.size();
+    }
+
+    final int stringIndex = HEADER_SIZE;
+    final int patternIndex = stringIndex + stringsSize;
+    final int recordOffset = patternIndex + patternsSize;
+    final int lookupOffset = recordOffset + 4 * records.length;
+    final ByteBuffer buffer = ByteBuffer.allocate(
+        lookupOffset + LOOKUP_SIZE * lookup.size());
+
+    buffer.putInt(MAGIC).putInt(VERSION);
+    buffer.put(Arrays.copyOf(fingerprint, FINGERPRINT_LENGTH));
+    buffer.putInt(strings.size()).putInt(patterns.size())
+        .putInt(descriptors.size()).putInt(lookup.size());
+    buffer.putInt(stringIndex).putInt(patternIndex).putInt(recordOffset)
+        .putInt(lookupOffset);
+
+    int offset = stringIndex + 4 * strings.size();
+    for (byte[] encoded : encodedStrings) {
+      buffer.putInt(offset);
+      offset += 4 + encoded.length;
+    }
+    for (byte[] encoded : encodedStrings) {
+      buffer.putInt(encoded.length).put(encoded);
+    }
+
+    offset = patternIndex + 4 * patterns.size();
+    for (List<String> pattern : patterns.keySet()) {
+      buffer.putInt(offset);
+      offset += 4 + 4 * pattern.size();
+    }
+    for (List<String> pattern : patterns.keySet()) {
+      buffer.putInt(pattern.size());
+      for (String modelType : pattern) {
+        buffer.putInt(strings.get(modelType));
+      }
+    }
+
+    for (int record : records) {
+      buffer.putInt(record);
+    }
+
+    Collections.sort(lookup, new Comparator<long[]>() {
+      @Override
+      public int compare(long[] a, long[] b) {
+        final int result = Integer.compare((int) a[0], (int) b[0]);
+        return result != 0 ? result : Long.compare(a[1], b[1]);
+      }
+    });
+    for (long[] entry : lookup) {
+      buffer.putInt((int) entry[0]).putInt((int) entry[1]);
+    }
+    // invoked as a Buffer method so that this links on a Java 8 runtime
+    ((Buffer) buffer).flip();
+    return buffer;
+  }
+
+  private static boolean isExact(ModelPath modelPath) {
+    for (int i = 0, max = modelPath.length(); i < max; i++) {
+      if (modelPath.matchTypeAt(i) != ModelPath.MatchType.EXACT) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the lookup hash of a model path.
+   * <p>
+   * The hash is derived from {@link String#hashCode()} of the name of each
+   * model type, so it does not vary from one process to another.
+   * @param modelTypes the subject model path
+   * @return hash
+   */
+  static int hash(Class<?>[] modelTypes) {
+    int hash = modelTypes.length;
+    for (Class<?> modelType : modelTypes) {
+      hash = 31 * hash + modelType.getName().hashCode();
+    }
+    return hash;
+  }
+
+  private static <T> int indexOf(T value, Map<T, Integer> table) {
+    Integer index = table.get(value);
+    if (index == null) {
+      index = table.size();
+      table.put(value, index);
+    }
+    return index;
+  }
+
+  /**
+   * Writes a table for the given descriptors to a file.
+   * <p>
+   * The table is written to a temporary file which then replaces
+   * {@code file}, so that a concurrent reader never sees a partial table.
+   * @param file the target file
+   * @param fingerprint fingerprint of the class path from which the
+   *    descriptors were discovered
+   * @param descriptors the descriptors to write
+   * @throws IOException if an error occurs in writing the file
+   */
+  static void write(File file, byte[] fingerprint,
+      Collection<? extends AbstractResourceDescriptor> descriptors)
+      throws IOException {
+    final ByteBuffer buffer = encode(fingerprint, descriptors);
+    final Path target = file.getAbsoluteFile().toPath();
+    Files.createDirectories(target.getParent());
+    final Path temp = Files.createTempFile(target.getParent(),
+        target.getFileName().toString(), ".tmp");
+    try {
+      Files.write(temp, Arrays.copyOf(buffer.array(), buffer.limit()));
+      try {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (AtomicMoveNotSupportedException ex) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Gets the class path fingerprint recorded in this table.
+   * @return fingerprint
+   */
+  byte[] fingerprint() {
+    final byte[] fingerprint = new byte[FINGERPRINT_LENGTH];
+    for (int i = 0; i < FINGERPRINT_LENGTH; i++) {
+      fingerprint[i] = buffer.get(8 + i);
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Gets the number of descriptor records in this table.
+   * @return record count
+   */
+  int size() {
+    return buffer.getInt(RECORD_COUNT);
+  }
+
+  /**
+   * Finds the records whose model path has the given lookup hash, by
+   * binary search of the lookup index.
+   * @param hash model path hash (see {@link #hash(Class[])})
+   * @return index of the first lookup entry with the given hash, or -1 if
+   *    there is no such entry; subsequent entries with the same hash are
+   *    adjacent
+   */
+  int lookup(int hash) {
+    int low = 0;
+    int high = lookupSize();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (lookupHash(mid) < hash) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+    return low < lookupSize() && lookupHash(low) == hash ? low : -1;
+  }
+
+  /**
+   * Gets the number of entries in the lookup index.
+   * @return entry count
+   */
+  int lookupSize() {
+    return buffer.getInt(LOOKUP_COUNT);
+  }
+
+  /**
+   * Gets the model path hash of a lookup entry.
+   * @param entry lookup entry index
+   * @return hash
+   */
+  int lookupHash(int entry) {
+    return buffer.getInt(buffer.getInt(LOOKUP) + LOOKUP_SIZE * entry);
+  }
+
+  /**
+   * Gets the record index of a lookup entry.
+   * @param entry lookup entry index
+   * @return record index
+   */
+  int lookupRecord(int entry) {
+    return buffer.getInt(buffer.getInt(LOOKUP) + LOOKUP_SIZE * entry + 4);
+  }
+
+  /**
+   * Gets a string from the string table.
+   * @param index index of the string
+   * @return string
+   */
+  String string(int index) {
+    final int offset = buffer.getInt(buffer.getInt(STRING_INDEX) + 4 * index);
+    final byte[] bytes = new byte[buffer.getInt(offset)];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = buffer.get(offset + 4 + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Gets the resource type of a record.
+   * @param record record index
+   * @return resource type
+   */
+  String resourceType(int record) {
+    return string(field(record, RESOURCE_TYPE));
+  }
+
+  /**
+   * Gets the resource name of a record.
+   * @param record record index
+   * @return resource name
+   */
+  String resourceName(int record) {
+    return string(field(record, RESOURCE_NAME));
+  }
+
+  /**
+   * Gets the path template of a record.
+   * @param record record index
+   * @return path template
+   */
+  String path(int record) {
+    return string(field(record, PATH));
+  }
+
+  /**
+   * Gets the template resolver class name of a record.
+   * @param record record index
+   * @return class name
+   */
+  String templateResolver(int record) {
+    return string(field(record, TEMPLATE_RESOLVER));
+  }
+
+  /**
+   * Gets the model class names of the model path of a record.
+   * @param record record index
+   * @return array of class names
+   */
+  String[] modelPath(int record) {
+    final int offset = buffer.getInt(
+        buffer.getInt(PATTERN_INDEX) + 4 * field(record, PATTERN));
+    final String[] modelPath = new String[buffer.getInt(offset)];
+    for (int i = 0; i < modelPath.length; i++) {
+      modelPath[i] = string(buffer.getInt(offset + 4 + 4 * i));
+    }
+    return modelPath;
+  }
+
+  private int field(int record, int field) {
+    return buffer.getInt(buffer.getInt(RECORDS) + RECORD_SIZE * record + field);
+  }
+
+  /**
+   * Creates descriptors for the records in this table.
+   * @param classLoader class loader to use to load model types and
+   *    template resolvers
+   * @return list of descriptors
+   * @throws ClassNotFoundException if a model type or template resolver
+   *    class cannot be loaded
+   * @throws ResourceConfigurationException if a template resolver cannot
+   *    be instantiated
+   */
+  List<ResourceDescriptor> toDescriptors(ClassLoader classLoader)
+      throws ClassNotFoundException, ResourceConfigurationException {
+    final int size = size();
+    final List<ResourceDescriptor> descriptors = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      descriptors.add(toDescriptor(i, classLoader));
+    }
+    return descriptors;
+  }
+
+  /**
+   * Creates a descriptor for a record in this table.
+   * @param record record index
+   * @param classLoader class loader to use to load model types and
+   *    template resolvers
+   * @return descriptor
+   * @throws ClassNotFoundException if a model type or template resolver
+   *    class cannot be loaded
+   * @throws ResourceConfigurationException if a template resolver cannot
+   *    be instantiated
+   */
+  ResourceDescriptor toDescriptor(int record, ClassLoader classLoader)
+      throws ClassNotFoundException, ResourceConfigurationException {
+    final String[] names = modelPath(record);
+    final Class<?>[] modelPath = new Class<?>[names.length];
+    for (int i = 0; i < names.length; i++) {
+      modelPath[i] = Class.forName(names[i], false, classLoader);
+    }
+    final Class<? extends PathTemplateResolver> resolverClass =
+        Class.forName(templateResolver(record), false, classLoader)
+            .asSubclass(PathTemplateResolver.class);
+    return new PrecompiledResourceDescriptor(resourceType(record),
+        resourceName(record), path(record), ModelPath.with(modelPath),
+        TemplateResolverUtils.newResolver(resolverClass));
+  }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of expanded resource paths, keyed by resource descriptor
+ * and the tuple of values substituted for the variables of its template.
+ * <p>
+ * A large cache is divided into segments, each of which is independently
+ * locked and bounded, so that concurrent resolutions of different paths
+ * seldom contend for the same lock.  The eviction policy is applied within
+ * each segment.
+ * <p>
+ * A key retains each template value only if it is of an immutable scalar
+ * type (a string, a boxed primitive, {@link BigInteger}, {@link BigDecimal},
+ * {@link UUID}, or an enum constant); any other value is retained in the
+ * form of the string that the template substitutes for it.  A value that
+ * is changed after its path is cached therefore cannot alter the key under
+ * which the path is cached.
+ *
+ * @author Carl Harris
+ */
+class ExpandedPathCache {
+
+  private static final int MAX_SEGMENTS = 16;
+
+  private static final int MIN_SEGMENT_SIZE = 64;
+
+  private final Segment[] segments;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Constructs a new instance.
+   * @param maxSize maximum number of paths to retain
+   * @param evictionPolicy policy used to evict paths when the cache
+   *    is full
+   * @throws IllegalArgumentException if {@code maxSize} is not positive
+   */
+  ExpandedPathCache(int maxSize, PathCacheEvictionPolicy evictionPolicy) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maximum size must be positive");
+    }
+    final int numSegments = Math.max(1,
+        Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE));
+    final boolean accessOrder =
+        evictionPolicy == PathCacheEvictionPolicy.LEAST_RECENTLY_USED;
+    this.segments = new Segment[numSegments];
+    for (int i = 0; i < numSegments; i++) {
+      final int segmentSize = maxSize / numSegments
+          + (i < maxSize % numSegments ? 1 : 0);
+      segments[i] = new Segment(segmentSize, accessOrder);
+    }
+  }
+
+  /**
+   * Gets the expanded path for the given descriptor and template values,
+   * expanding the template and caching the result if necessary.
+   * @param descriptor the descriptor whose template is to be expanded
+   * @param template compiled template of {@code descriptor}
+   * @param values values for the variables of {@code template}; the array
+   *    is not retained by the cache
+   * @return expanded path
+   */
+  public String expand(ResourceDescriptor descriptor, PathTemplate template,
+      Object[] values) {
+    final Object[] keyValues = immutableValues(values);
+    final Key key = new Key(descriptor, keyValues);
+    final Segment segment = segments[
+        (key.hashCode() & Integer.MAX_VALUE) % segments.length];
+    String path = segment.get(key);
+    if (path == null) {
+      misses.increment();
+      path = template.expand(values);
+      segment.put(keyValues != values ?
+          key : new Key(descriptor, keyValues.clone()), path);
+    }
+    else {
+      hits.increment();
+    }
+    return path;
+  }
+
+  /**
+   * Gets the immutable forms of the given template values.
+   * @param values template values
+   * @return {@code values} itself if every value is {@code null} or of an
+   *    immutable scalar type, otherwise a new array in which each other
+   *    value is replaced by its string representation
+   */
+  static Object[] immutableValues(Object[] values) {
+    Object[] result = values;
+    for (int i = 0; i < values.length; i++) {
+      final Object value = values[i];
+      if (value == null || isImmutable(value)) continue;
+      if (result == values) {
+        result = values.clone();
+      }
+      result[i] = value.toString();
+    }
+    return result;
+  }
+
+  private static boolean isImmutable(Object value) {
+    final Class<?> type = value.getClass();
+    return type == String.class
+        || type == Long.class
+        || type == Integer.class
+        || type == Short.class
+        || type == Byte.class
+        || type == Character.class
+        || type == Boolean.class
+        || type == Double.class
+        || type == Float.class
+        || type == BigInteger.class
+        || type == BigDecimal.class
+        || type == UUID.class
+        || value instanceof Enum;
+  }
+
+  /**
+   * Gets the number of paths in the cache.
+   * @return number of cached paths
+   */
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * Gets the number of expansions that were satisfied by the cache.
+   * @return hit count
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of expansions that were not satisfied by the cache.
+   * @return miss count
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * A cache key.
+   */
+  private static class Key {
+
+    private final ResourceDescriptor descriptor;
+    private final Object[] values;
+    private final int hashCode;
+
+    Key(ResourceDescriptor descriptor, Object[] values) {
+      this.descriptor = descriptor;
+      this.values = values;
+      this.hashCode = 31 * System.identityHashCode(descriptor)
+          + Arrays.hashCode(values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof Key)) return false;
+      final Key that = (Key) obj;
+      return this.descriptor == that.descriptor
+          && Arrays.equals(this.values, that.values);
+    }
+
+  }
+
+  /**
+   * A bounded, independently locked segment of the cache.
+   */
+  private static class Segment {
+
+    private final Map<Key, String> map;
+
+    Segment(final int maxSize, boolean accessOrder) {
+      this.map = new LinkedHashMap<Key, String>(16, 0.75f, accessOrder) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+          return size() > maxSize;
+        }
+      };
+    }
+
+    synchronized String get(Key key) {
+      return map.get(key);
+    }
+
+    synchronized void put(Key key, String value) {
+      map.put(key, value);
+    }
+
+    synchronized int size() {
+      return map.size();
+    }
+
+  }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A factory for recordings of the Java Flight Recorder events of this
+ * library.
+ * <p>
+ * The events are defined using the {@code jdk.jfr} API, which is not
+ * present on every Java 8 runtime.  When it is absent, every method of
+ * this class returns a recording that records nothing, and the event
+ * classes are never loaded.  When it is present, an event that is not
+ * enabled in any recording costs a single check of its enablement.
+ * <p>
+ * The events (see {@code JfrEvents}) are named with the prefix
+ * {@code org.soulwing.jaxrs.href}, and may be enabled and given a
+ * threshold in the same manner as any other event, e.g. using a
+ * {@code .jfc} settings file or {@code jdk.jfr.Recording.enable}.
+ *
+ * @author Carl Harris
+ */
+final class FlightRecorderEvents {
+
+  private static final String RECORDER_CLASS_NAME =
+      "org.soulwing.jaxrs.href.JfrEvents";
+
+  /**
+   * The recorder that creates events, or {@code null} if the flight
+   * recorder API is absent.
+   */
+  private static final Recorder RECORDER = newRecorder();
+
+  /**
+   * A flag indicating whether the flight recorder API is present.
+   */
+  static final boolean AVAILABLE = RECORDER != null;
+
+  private FlightRecorderEvents() {
+  }
+
+  private static Recorder newRecorder() {
+    final ClassLoader classLoader = FlightRecorderEvents.class.getClassLoader();
+    try {
+      Class.forName("jdk.jfr.Event", false, classLoader);
+      return (Recorder) Class.forName(RECORDER_CLASS_NAME, true, classLoader)
+          .getDeclaredConstructor().newInstance();
+    }
+    catch (ReflectiveOperationException | LinkageError ex) {
+      return null;
+    }
+  }
+
+  /**
+   * A factory for the events of this library.
+   * <p>
+   * The implementation of this interface that uses the {@code jdk.jfr} API
+   * is loaded reflectively, so that no other class of this library refers
+   * to it directly.
+   */
+  interface Recorder {
+
+    /**
+     * Begins a recording of a class path scan.
+     * @param applicationPath the context-qualified JAX-RS application path
+     * @param locationCount number of class path locations to scan
+     * @return recording
+     */
+    FlightRecording beginScan(String applicationPath, int locationCount);
+
+    /**
+     * Begins a recording of the introspection of a root resource type.
+     * @param resourceType the root resource type
+     * @param path the context-qualified path of {@code resourceType}
+     * @return recording
+     */
+    FlightRecording beginIntrospect(Class<?> resourceType, String path);
+
+    /**
+     * Begins a recording of the validation of discovered descriptors.
+     * @param applicationPath the context-qualified JAX-RS application path
+     * @return recording
+     */
+    FlightRecording beginValidate(String applicationPath);
+
+    /**
+     * Begins a recording of a resolution.
+     * @return recording
+     */
+    ResolveRecording beginResolve();
+
+  }
+
+  /**
+   * Begins a recording of a class path scan.
+   * @param applicationPath the context-qualified JAX-RS application path
+   * @param locationCount number of class path locations to scan
+   * @return recording
+   */
+  static FlightRecording beginScan(String applicationPath,
+      int locationCount) {
+    return AVAILABLE ?
+        RECORDER.beginScan(applicationPath, locationCount) :
+        FlightRecording.NONE;
+  }
+
+  /**
+   * Begins a recording of the introspection of a root resource type.
+   * @param resourceType the root resource type
+   * @param path the context-qualified path of {@code resourceType}
+   * @return recording
+   */
+  static FlightRecording beginIntrospect(Class<?> resourceType,
+      String path) {
+    return AVAILABLE ?
+        RECORDER.beginIntrospect(resourceType, path) :
+        FlightRecording.NONE;
+  }
+
+  /**
+   * Begins a recording of the validation of discovered descriptors.
+   * @param applicationPath the context-qualified JAX-RS application path
+   * @return recording
+   */
+  static FlightRecording beginValidate(String applicationPath) {
+    return AVAILABLE ?
+        RECORDER.beginValidate(applicationPath) :
+        FlightRecording.NONE;
+  }
+
+  /**
+   * Begins a recording of a resolution.
+   * @return recording
+   */
+  static ResolveRecording beginResolve() {
+    return AVAILABLE ? RECORDER.beginResolve() : ResolveRecording.NONE;
+  }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * An operation that may be recorded as a Java Flight Recorder event.
+ * <p>
+ * A recording is obtained from {@link FlightRecorderEvents} when the
+ * operation begins, and must be completed when the operation ends (whether
+ * or not it succeeds).
+ *
+ * @author Carl Harris
+ */
+interface FlightRecording {
+
+  /**
+   * A recording that records nothing.
+   */
+  FlightRecording NONE = new FlightRecording() {
+    @Override
+    public void complete() {
+    }
+  };
+
+  /**
+   * Completes this recording, committing an event if the event is enabled
+   * and the duration of the operation exceeds its threshold.
+   */
+  void complete();
+
+}
@@ -0,0 +1,87 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import javax.servlet.ServletContext;
+
+/**
+ * A {@link ResourcePathResolverFactory} that discovers resources using the
+ * index produced at build time by {@link ResourceIndexProcessor}, instead of
+ * scanning the class path.
+ *
+ * @author Carl Harris
+ */
+public class IndexedResourcePathResolverFactory
+    extends AbstractResourcePathResolverFactory {
+
+  private ReflectionService reflectionService;
+  private String applicationPath;
+
+  /**
+   * Initializes this resolver using the resource index visible to the
+   * class loader of the given servlet context.
+   * @param applicationPath the JAX-RS application path
+   * @param servletContext  the subject servlet context
+   * @throws ResourceConfigurationException if no resource index is found
+   */
+  public void init(String applicationPath, ServletContext servletContext)
+      throws ResourceConfigurationException {
+    init(ServletContextResourcePathResolverFactory.qualifiedApplicationPath(
+        applicationPath, servletContext), servletContext.getClassLoader());
+  }
+
+  /**
+   * Initializes this resolver using the resource index visible to the
+   * given class loader.
+   * @param applicationPath the context-qualified JAX-RS application path
+   * @param classLoader the class loader to use to locate the index and
+   *    load the indexed types
+   * @throws ResourceConfigurationException if no resource index is found
+   */
+  public void init(String applicationPath, ClassLoader classLoader)
+      throws ResourceConfigurationException {
+    final ResourceIndex index = ResourceIndex.load(classLoader);
+    if (index == null) {
+      throw new ResourceConfigurationException("no resource index ("
+          + ResourceIndex.RESOURCE_NAME + ") found; is "
+          + ResourceIndexProcessor.class.getSimpleName() + " enabled?");
+    }
+    this.applicationPath = applicationPath;
+    this.reflectionService = ClassSetReflectionService.forNames(
+        index.typeNames(), classLoader);
+    reset();
+  }
+
+  @Override
+  protected String getApplicationPath() {
+    if (applicationPath == null) {
+      throw new IllegalStateException("factory has not been initialized");
+    }
+    return applicationPath;
+  }
+
+  @Override
+  protected ReflectionService getReflectionService() {
+    if (reflectionService == null) {
+      throw new IllegalStateException("factory has not been initialized");
+    }
+    return reflectionService;
+  }
+
+}
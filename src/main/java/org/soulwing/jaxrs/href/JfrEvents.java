@@ -0,0 +1,220 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The Java Flight Recorder events of this library.
+ * <p>
+ * This class (and the event classes it contains) is loaded only
+ * reflectively by {@link FlightRecorderEvents}, and only on a runtime that
+ * has the {@code jdk.jfr} API.  It is therefore compiled separately from
+ * the rest of this library, which targets a Java 8 runtime.
+ *
+ * @author Carl Harris
+ */
+final class JfrEvents implements FlightRecorderEvents.Recorder {
+
+  private static final String CATEGORY = "JAX-RS Resource Paths";
+
+  JfrEvents() {
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public FlightRecording beginScan(String applicationPath,
+      int locationCount) {
+    final ScanEvent event = new ScanEvent();
+    if (!event.isEnabled()) return FlightRecording.NONE;
+    event.applicationPath = applicationPath;
+    event.locationCount = locationCount;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public FlightRecording beginIntrospect(Class<?> resourceType,
+      String path) {
+    final IntrospectEvent event = new IntrospectEvent();
+    if (!event.isEnabled()) return FlightRecording.NONE;
+    event.resourceType = resourceType;
+    event.path = path;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public FlightRecording beginValidate(String applicationPath) {
+    final ValidateEvent event = new ValidateEvent();
+    if (!event.isEnabled()) return FlightRecording.NONE;
+    event.applicationPath = applicationPath;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ResolveRecording beginResolve() {
+    final ResolveEvent event = new ResolveEvent();
+    if (!event.isEnabled()) return ResolveRecording.NONE;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * An event for a scan of the class path for resource types.
+   */
+  @Name("org.soulwing.jaxrs.href.Scan")
+  @Label("Resource Scan")
+  @Description("Scan of class path locations for resource types")
+  @Category({ CATEGORY, "Discovery" })
+  @StackTrace(false)
+  static class ScanEvent extends Event implements FlightRecording {
+
+    @Label("Application Path")
+    String applicationPath;
+
+    @Label("Location Count")
+    int locationCount;
+
+    @Override
+    public void complete() {
+      end();
+      if (shouldCommit()) {
+        commit();
+      }
+    }
+
+  }
+
+  /**
+   * An event for the introspection of a root resource type and its
+   * sub-resources.
+   */
+  @Name("org.soulwing.jaxrs.href.Introspect")
+  @Label("Resource Introspection")
+  @Description("Introspection of a root resource type and its sub-resources")
+  @Category({ CATEGORY, "Discovery" })
+  @StackTrace(false)
+  static class IntrospectEvent extends Event implements FlightRecording {
+
+    @Label("Resource Type")
+    Class<?> resourceType;
+
+    @Label("Path")
+    String path;
+
+    @Override
+    public void complete() {
+      end();
+      if (shouldCommit()) {
+        commit();
+      }
+    }
+
+  }
+
+  /**
+   * An event for the validation of discovered descriptors.
+   */
+  @Name("org.soulwing.jaxrs.href.Validate")
+  @Label("Resource Validation")
+  @Description("Validation of discovered resource descriptors")
+  @Category({ CATEGORY, "Discovery" })
+  @StackTrace(false)
+  static class ValidateEvent extends Event implements FlightRecording {
+
+    @Label("Application Path")
+    String applicationPath;
+
+    @Override
+    public void complete() {
+      end();
+      if (shouldCommit()) {
+        commit();
+      }
+    }
+
+  }
+
+  /**
+   * An event for a resolution whose duration exceeds the event threshold.
+   * <p>
+   * The model path and descriptor are converted to strings only when the
+   * event is committed.
+   */
+  @Name("org.soulwing.jaxrs.href.Resolve")
+  @Label("Resource Path Resolution")
+  @Description("Resolution of a model path to a resource path")
+  @Category(CATEGORY)
+  @Threshold("1 ms")
+  @StackTrace(false)
+  static class ResolveEvent extends Event implements ResolveRecording {
+
+    @Label("Model Path")
+    String modelPath;
+
+    @Label("Descriptor")
+    String descriptor;
+
+    @Label("Candidate Count")
+    int candidateCount;
+
+    private transient ModelPath matchedModelPath;
+    private transient ResourceDescriptor matchedDescriptor;
+
+    @Override
+    public void matched(ModelPath modelPath, int candidateCount,
+        ResourceDescriptor descriptor) {
+      this.matchedModelPath = modelPath;
+      this.candidateCount = candidateCount;
+      this.matchedDescriptor = descriptor;
+    }
+
+    @Override
+    public void complete() {
+      end();
+      if (shouldCommit()) {
+        modelPath = String.valueOf(matchedModelPath);
+        descriptor = matchedDescriptor != null ?
+            matchedDescriptor.toString() : null;
+        commit();
+      }
+    }
+
+  }
+
+}
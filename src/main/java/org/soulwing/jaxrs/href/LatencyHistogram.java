@@ -0,0 +1,160 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * A lock-free histogram of latencies, with log-linear buckets.
+ * <p>
+ * Values are grouped by power of two, and each group is divided into
+ * {@value #SUB_BUCKETS} equal buckets, so that the value reported for a
+ * percentile is within 12.5% of the recorded value at any magnitude.  Each
+ * bucket is a {@link LongAdder}, so that concurrent recording of similar
+ * values does not contend for a single counter.
+ *
+ * @author Carl Harris
+ */
+class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private static final int BUCKETS =
+      (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+  private static final LongBinaryOperator MAX = new LongBinaryOperator() {
+    @Override
+    public long applyAsLong(long a, long b) {
+      return Math.max(a, b);
+    }
+  };
+
+  private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+  private final LongAccumulator max = new LongAccumulator(MAX, 0);
+
+  /**
+   * Constructs a new instance.
+   */
+  LatencyHistogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a value.
+   * @param value the value to record; a negative value is recorded as zero
+   */
+  void record(long value) {
+    if (value < 0) value = 0;
+    counts[index(value)].increment();
+    max.accumulate(value);
+  }
+
+  /**
+   * Gets the total number of recorded values.
+   * @return count of values
+   */
+  long count() {
+    long count = 0;
+    for (LongAdder adder : counts) {
+      count += adder.sum();
+    }
+    return count;
+  }
+
+  /**
+   * Gets the largest recorded value.
+   * @return maximum value or zero if no values have been recorded
+   */
+  long max() {
+    return max.get();
+  }
+
+  /**
+   * Gets an estimate of the value at the given percentile.
+   * <p>
+   * Values recorded concurrently with this method may or may not be
+   * included in the estimate.
+   * @param percentile the subject percentile (e.g. 99.9)
+   * @return upper bound of the bucket that contains the value at
+   *    {@code percentile} (but no more than the maximum recorded value),
+   *    or zero if no values have been recorded
+   */
+  long percentile(double percentile) {
+    final long[] snapshot = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts[i].sum();
+      total += snapshot[i];
+    }
+    if (total == 0) return 0;
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(upperBound(i), max());
+      }
+    }
+    return max();
+  }
+
+  /**
+   * Discards all recorded values.
+   */
+  void reset() {
+    for (LongAdder adder : counts) {
+      adder.reset();
+    }
+    max.reset();
+  }
+
+  /**
+   * Gets the index of the bucket for a value.
+   * @param value the subject value (not negative)
+   * @return bucket index
+   */
+  static int index(long value) {
+    if (value < SUB_BUCKETS) return (int) value;
+    final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    final int shift = exponent - SUB_BUCKET_BITS;
+    final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * Gets the largest value that falls into the bucket at an index.
+   * @param index bucket index
+   * @return upper bound (inclusive)
+   */
+  static long upperBound(int index) {
+    if (index < SUB_BUCKETS) return index;
+    final int shift = index / SUB_BUCKETS - 1;
+    final long subBucket = index % SUB_BUCKETS;
+    final long lower = (SUB_BUCKETS + subBucket) << shift;
+    return lower + (1L << shift) - 1;
+  }
+
+}
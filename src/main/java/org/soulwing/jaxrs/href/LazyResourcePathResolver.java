@@ -0,0 +1,497 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ResourcePathResolver} that introspects the subtree of each root
+ * resource type only when it is first needed.
+ * <p>
+ * On construction, only the root resource types, their {@link ReferencedBy}
+ * annotations, and the {@link ReferencedBy} annotations of their own
+ * resource methods and sub-resource locators are examined.  Every
+ * descriptor in the subtree of a root resource type has a model path that
+ * begins with the model path on the root type's {@link ReferencedBy}
+ * annotation.  When the root type has no such annotation, every descriptor
+ * instead has a model path that begins with the model path on one of the
+ * annotations of the root type's methods.  A subtree therefore need not be
+ * introspected until a model path that begins with a match for one of
+ * these prefixes is resolved.  A root resource type whose prefix cannot be
+ * determined in this manner (for example, because it has a sub-resource
+ * locator with no {@link ReferencedBy} annotation) is introspected on the
+ * first resolution of any model path.
+ * <p>
+ * Each subtree is introspected at most once, by a single thread.  The
+ * descriptors that have been discovered are held by an immutable
+ * {@link SimpleResourcePathResolver}, which is replaced (with a copy that
+ * also includes the new descriptors) each time subtrees are introspected,
+ * so that resolution never waits for anything except the introspection of
+ * a subtree that it needs.  All of the subtrees needed by a resolution are
+ * introspected together and added in a single copy.  The root resource
+ * types that remain to be introspected are indexed by the first type of
+ * each of their prefixes, so that the cost of resolution does not depend on
+ * the number of root resource types that are never needed.  A configuration
+ * error in a subtree (including a descriptor whose model path duplicates
+ * that of a previously discovered descriptor) is reported by each
+ * resolution that needs the subtree.
+ * <p>
+ * The results of the reflection service are cached only for the duration
+ * of each introspection, so that the cache does not live as long as the
+ * resolver.  Once every subtree has been introspected, the resolver no
+ * longer retains the reflection service.
+ *
+ * @author Carl Harris
+ */
+class LazyResourcePathResolver implements ResourcePathResolver {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(LazyResourcePathResolver.class);
+
+  private final String applicationPath;
+  private final String basePath;
+  private final ReflectionResourceDiscoveryService discoveryService;
+  private final ExpandedPathCache pathCache;
+  private final ResolutionListener listener;
+
+  private ReflectionService reflectionService;
+  private volatile PendingRoots pending;
+  private volatile SimpleResourcePathResolver delegate;
+
+  /**
+   * Constructs a new instance.
+   * @param applicationPath the context-qualified JAX-RS application path
+   * @param reflectionService reflection service to use for discovery
+   * @param discoveryService discovery service that will be used to
+   *    introspect the subtree of each root resource type
+   * @param pathCache path cache or {@code null} to disable caching
+   */
+  LazyResourcePathResolver(String applicationPath,
+      ReflectionService reflectionService,
+      ReflectionResourceDiscoveryService discoveryService,
+      ExpandedPathCache pathCache) {
+    this(applicationPath, reflectionService, discoveryService, pathCache,
+        ResolutionListener.NONE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param applicationPath the context-qualified JAX-RS application path
+   * @param reflectionService reflection service to use for discovery; it
+   *    is wrapped in a new {@link CachingReflectionService} for each
+   *    introspection
+   * @param discoveryService discovery service that will be used to
+   *    introspect the subtree of each root resource type
+   * @param pathCache path cache or {@code null} to disable caching
+   * @param listener resolution listener
+   */
+  LazyResourcePathResolver(String applicationPath,
+      ReflectionService reflectionService,
+      ReflectionResourceDiscoveryService discoveryService,
+      ExpandedPathCache pathCache, ResolutionListener listener) {
+    this.applicationPath = applicationPath;
+    this.basePath = ReflectionResourceDiscoveryService.basePath(
+        applicationPath);
+    this.reflectionService = reflectionService;
+    this.discoveryService = discoveryService;
+    this.pathCache = pathCache;
+    this.listener = listener;
+    final ReflectionService indexingService =
+        new CachingReflectionService(reflectionService);
+    final List<Root> roots = new ArrayList<>();
+    for (Class<?> type : indexingService.getTypesAnnotatedWith(Path.class)) {
+      roots.add(new Root(type, prefixes(type, indexingService)));
+    }
+    this.pending = new PendingRoots(roots);
+    this.delegate = new SimpleResourcePathResolver(pathCache, listener);
+    logger.debug("indexed {} root resource type(s)", roots.size());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(PathTemplateContext context,
+      Class<?>... modelTypes) {
+    return delegate(modelTypes).resolve(context, modelTypes);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolveWith(Object[] values, Class<?>... modelTypes) {
+    return delegate(modelTypes).resolveWith(values, modelTypes);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ResourcePathHandle handle(Class<?>... modelTypes) {
+    return delegate(modelTypes).handle(modelTypes);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation introspects the subtree of every root resource
+   * type that has not yet been introspected, and then warms up the
+   * resolver that holds the discovered descriptors.  If the subtree of
+   * any root resource type has a configuration error, the remaining
+   * subtrees are introspected before the first such error is thrown.
+   */
+  @Override
+  public long warmUp() throws ResourceConfigurationException {
+    final long start = System.nanoTime();
+    expand(pending.all());
+    delegate.warmUp();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  /**
+   * Gets the number of root resource types whose subtrees have not yet
+   * been introspected.
+   * @return number of pending root resource types
+   */
+  int pendingCount() {
+    return pending.size;
+  }
+
+  /**
+   * Gets the descriptors that have been discovered so far.
+   * @return unmodifiable collection of descriptors
+   */
+  Collection<ResourceDescriptor> descriptors() {
+    return delegate.descriptors();
+  }
+
+  /**
+   * Gets the prefixes with which the model path of every descriptor in the
+   * subtree of a root resource type begins.
+   * <p>
+   * Only the root type and its own methods are examined.  The return types
+   * of sub-resource locators are not introspected.
+   * @param type the root resource type
+   * @param reflectionService reflection service
+   * @return list of prefixes, or {@code null} if a descriptor in the subtree
+   *    could have any model path
+   */
+  private static List<ModelPath> prefixes(Class<?> type,
+      ReflectionService reflectionService) {
+    final ReferencedBy typeReferencedBy =
+        reflectionService.getAnnotation(type, ReferencedBy.class);
+    if (typeReferencedBy != null) {
+      return Collections.singletonList(
+          ModelPath.with().concat(typeReferencedBy));
+    }
+
+    final List<ModelPath> prefixes = new ArrayList<>();
+    for (Method method : reflectionService.getMethods(type)) {
+      final boolean resourceMethod = ReflectionResourceMethodIntrospector
+          .isResourceMethod(method, reflectionService);
+      if (!resourceMethod
+          && reflectionService.getAnnotation(method, Path.class) == null) {
+        continue;
+      }
+      final ReferencedBy referencedBy =
+          reflectionService.getAnnotation(method, ReferencedBy.class);
+      if (referencedBy == null) {
+        if (resourceMethod) continue;
+        return null;
+      }
+      if (!referencedBy.inherit()
+          || !resourceMethod && reflectionService.isAbstractType(
+              reflectionService.getReturnType(method))) {
+        return null;
+      }
+      prefixes.add(ModelPath.with().concat(referencedBy));
+    }
+    return prefixes;
+  }
+
+  /**
+   * Gets a resolver that holds every descriptor that could match the
+   * given model path, introspecting subtrees as needed.
+   * @param modelTypes the model path to be resolved
+   * @return resolver
+   * @throws ResourceConfigurationException if a configuration error is
+   *    discovered in a subtree that could match {@code modelTypes}
+   */
+  private SimpleResourcePathResolver delegate(Class<?>[] modelTypes) {
+    final PendingRoots pending = this.pending;
+    if (pending.size > 0) {
+      final List<Root> roots = pending.matching(modelTypes);
+      if (!roots.isEmpty()) {
+        expand(roots);
+      }
+    }
+    return delegate;
+  }
+
+  /**
+   * Introspects the subtrees of the given root resource types and replaces
+   * the delegate with a single copy that includes all of their descriptors.
+   * <p>
+   * If the descriptors of the roots cannot all be added together, they are
+   * added one root at a time, so that the error is attributed to the root
+   * whose subtree caused it.
+   * @param roots the roots to expand; roots that have already been expanded
+   *    are ignored
+   * @throws ResourceConfigurationException if the subtree of any of the
+   *    given roots has a configuration error; the first such error is
+   *    thrown after the remaining roots have been expanded
+   */
+  private synchronized void expand(List<Root> roots) {
+    ReflectionService reflectionService = null;
+    ResourceConfigurationException error = null;
+    final Map<Root, List<ResourceDescriptor>> expanded = new LinkedHashMap<>();
+    for (Root root : roots) {
+      if (root.error != null) {
+        if (error == null) {
+          error = root.error;
+        }
+        continue;
+      }
+      if (!pending.contains(root)) continue;
+      if (reflectionService == null) {
+        reflectionService = new CachingReflectionService(
+            this.reflectionService);
+      }
+      try {
+        final DescriptorCollector collector =
+            new DescriptorCollector(basePath);
+        discoveryService.describeRoot(root.type, applicationPath,
+            reflectionService, collector);
+        expanded.put(root, collector.descriptors());
+      }
+      catch (ResourceConfigurationException ex) {
+        root.error = ex;
+        if (error == null) {
+          error = ex;
+        }
+      }
+    }
+
+    if (!expanded.isEmpty()) {
+      try {
+        this.delegate = copy(expanded.values());
+      }
+      catch (ResourceConfigurationException ex) {
+        error = expandEach(expanded, error);
+      }
+      final List<Root> added = new ArrayList<>(expanded.size());
+      for (Map.Entry<Root, List<ResourceDescriptor>> entry
+          : expanded.entrySet()) {
+        if (entry.getKey().error == null) {
+          logger.debug("introspected root resource {} ({} descriptor(s))",
+              entry.getKey().type.getName(), entry.getValue().size());
+          added.add(entry.getKey());
+        }
+      }
+      this.pending = pending.without(added);
+      if (pending.size == 0) {
+        this.reflectionService = null;
+      }
+    }
+
+    if (error != null) throw error;
+  }
+
+  private ResourceConfigurationException expandEach(
+      Map<Root, List<ResourceDescriptor>> expanded,
+      ResourceConfigurationException error) {
+    for (Map.Entry<Root, List<ResourceDescriptor>> entry
+        : expanded.entrySet()) {
+      try {
+        this.delegate = copy(
+            Collections.singletonList(entry.getValue()));
+      }
+      catch (ResourceConfigurationException ex) {
+        entry.getKey().error = ex;
+        if (error == null) {
+          error = ex;
+        }
+      }
+    }
+    return error;
+  }
+
+  /**
+   * Creates a copy of the delegate that also includes the given descriptors.
+   * @param descriptorLists the descriptors to include
+   * @return validated resolver
+   * @throws ResourceConfigurationException if the resulting resolver does
+   *    not validate
+   */
+  private SimpleResourcePathResolver copy(
+      Collection<List<ResourceDescriptor>> descriptorLists) {
+    final SimpleResourcePathResolver resolver =
+        new SimpleResourcePathResolver(pathCache, listener);
+    for (ResourceDescriptor descriptor : delegate.descriptors()) {
+      resolver.addDescriptor(descriptor);
+    }
+    for (List<ResourceDescriptor> descriptors : descriptorLists) {
+      for (ResourceDescriptor descriptor : descriptors) {
+        resolver.addDescriptor(descriptor);
+      }
+    }
+    resolver.validate();
+    return resolver;
+  }
+
+  /**
+   * A root resource type whose subtree has not yet been introspected.
+   */
+  private static class Root {
+
+    final Class<?> type;
+    final Set<Class<?>> firstTypes;
+    final List<GlobMatcher<Class<?>>> prefixes;
+
+    ResourceConfigurationException error;
+
+    /**
+     * Constructs a new instance.
+     * @param type the root resource type
+     * @param prefixes prefixes of the model paths in the subtree of
+     *    {@code type}, or {@code null} if they could be any model path
+     */
+    Root(Class<?> type, List<ModelPath> prefixes) {
+      this.type = type;
+      if (prefixes == null) {
+        this.firstTypes = null;
+        this.prefixes = null;
+        return;
+      }
+      Set<Class<?>> firstTypes = new LinkedHashSet<>();
+      this.prefixes = new ArrayList<>(prefixes.size());
+      for (ModelPath prefix : prefixes) {
+        if (firstTypes != null && prefix.length() > 0
+            && prefix.matchTypeAt(0) == ModelPath.MatchType.EXACT) {
+          firstTypes.add(prefix.asList().get(0));
+        }
+        else {
+          firstTypes = null;
+        }
+        this.prefixes.add(GlobMatcher.with(AnyModel.class,
+            AnyModelSequence.class, prefix.concat(AnyModelSequence.class)));
+      }
+      this.firstTypes = firstTypes;
+    }
+
+    boolean matches(Class<?>[] modelTypes) {
+      if (prefixes == null) return true;
+      for (GlobMatcher<Class<?>> prefix : prefixes) {
+        if (prefix.matches(modelTypes)) return true;
+      }
+      return false;
+    }
+
+  }
+
+  /**
+   * An immutable set of pending root resource types, indexed by the first
+   * type of each prefix.  A root that has a prefix that is empty or starts
+   * with a wildcard (or whose prefixes are unknown) is held separately,
+   * since it could match any model path.
+   */
+  private static class PendingRoots {
+
+    final Set<Root> roots;
+    final Map<Class<?>, List<Root>> byFirstType = new HashMap<>();
+    final List<Root> others = new ArrayList<>();
+    final int size;
+
+    PendingRoots(Collection<Root> roots) {
+      this.roots = new LinkedHashSet<>(roots);
+      for (Root root : this.roots) {
+        if (root.firstTypes == null) {
+          others.add(root);
+          continue;
+        }
+        for (Class<?> firstType : root.firstTypes) {
+          List<Root> list = byFirstType.get(firstType);
+          if (list == null) {
+            list = new ArrayList<>();
+            byFirstType.put(firstType, list);
+          }
+          list.add(root);
+        }
+      }
+      this.size = this.roots.size();
+    }
+
+    boolean contains(Root root) {
+      return roots.contains(root);
+    }
+
+    List<Root> all() {
+      return new ArrayList<>(roots);
+    }
+
+    /**
+     * Gets the pending roots whose subtrees could match a model path.
+     * @param modelTypes the model path
+     * @return list of matching roots (possibly empty)
+     */
+    List<Root> matching(Class<?>[] modelTypes) {
+      final List<Root> matching = new ArrayList<>();
+      if (modelTypes.length > 0) {
+        final List<Root> candidates = byFirstType.get(modelTypes[0]);
+        if (candidates != null) {
+          for (Root root : candidates) {
+            if (root.matches(modelTypes)) {
+              matching.add(root);
+            }
+          }
+        }
+      }
+      for (Root root : others) {
+        if (root.matches(modelTypes)) {
+          matching.add(root);
+        }
+      }
+      return matching;
+    }
+
+    PendingRoots without(Collection<Root> expanded) {
+      final List<Root> roots = all();
+      roots.removeAll(expanded);
+      return new PendingRoots(roots);
+    }
+
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ResolutionListener} that logs each notification at the
+ * {@code TRACE} level.
+ *
+ * @author Carl Harris
+ */
+public class LoggingResolutionListener implements ResolutionListener {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(LoggingResolutionListener.class);
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void candidateFound(Class<?>[] modelPath,
+      ResolvedResource resource) {
+    if (logger.isTraceEnabled()) {
+      logger.trace("{} matches {}", ModelPath.with(modelPath), resource);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void longestMatchFound(Class<?>[] modelPath,
+      ResolvedResource resource) {
+    if (logger.isTraceEnabled()) {
+      logger.trace("{} has longest match {}", ModelPath.with(modelPath),
+          resource);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bestMatchFoundAtStep(int step, Class<?>[] modelPath,
+      ResolvedResource resource) {
+    if (logger.isTraceEnabled()) {
+      logger.trace("at step {}: {} has best match {}", step,
+          ModelPath.with(modelPath), resource);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void winnerChosen(Class<?>[] modelPath, ResolvedResource resource,
+      Basis basis, int candidateCount) {
+    if (logger.isTraceEnabled()) {
+      logger.trace("{} has {} match {} (of {})", ModelPath.with(modelPath),
+          basis.name().toLowerCase(), resource, candidateCount);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void missed(Class<?>[] modelPath) {
+    if (logger.isTraceEnabled()) {
+      logger.trace("{} has no match", ModelPath.with(modelPath));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void ambiguous(Class<?>[] modelPath,
+      List<? extends ResolvedResource> resources) {
+    if (logger.isTraceEnabled()) {
+      logger.trace("{} has ambiguous matches {}", ModelPath.with(modelPath),
+          resources);
+    }
+  }
+
+}
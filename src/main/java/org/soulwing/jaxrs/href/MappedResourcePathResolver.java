@@ -0,0 +1,209 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link ResourcePathResolver} that reads its descriptors from a
+ * (typically memory-mapped) {@link DescriptorTable}.
+ * <p>
+ * A model path that exactly matches the model path of a descriptor is
+ * found using the lookup index of the table, and only the descriptors
+ * found in this manner are created, each at most once.  A model path that
+ * is matched only by a wildcard model path is resolved by a delegate
+ * resolver, which holds descriptors for all of the records in the table
+ * and is created when first needed.
+ * <p>
+ * If a path cache is given, paths resolved by substituting template
+ * variables directly are cached, whether or not the model path is found
+ * in the lookup index.
+ *
+ * @author Carl Harris
+ */
+class MappedResourcePathResolver implements ResourcePathResolver {
+
+  private final DescriptorTable table;
+  private final ClassLoader classLoader;
+  private final AtomicReferenceArray<ResourceDescriptor> descriptors;
+  private final ExpandedPathCache pathCache;
+  private final ResolutionListener listener;
+
+  private volatile SimpleResourcePathResolver delegate;
+
+  /**
+   * Constructs a new instance.
+   * @param table descriptor table
+   * @param classLoader class loader to use to load model types and
+   *    template resolvers named in the table
+   */
+  MappedResourcePathResolver(DescriptorTable table, ClassLoader classLoader) {
+    this(table, classLoader, null, ResolutionListener.NONE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param table descriptor table
+   * @param classLoader class loader to use to load model types and
+   *    template resolvers named in the table
+   * @param pathCache path cache or {@code null} to disable caching
+   * @param listener listener to notify of the steps of each resolution of
+   *    a model path that is not found in the lookup index
+   */
+  MappedResourcePathResolver(DescriptorTable table, ClassLoader classLoader,
+      ExpandedPathCache pathCache, ResolutionListener listener) {
+    this.table = table;
+    this.classLoader = classLoader;
+    this.descriptors = new AtomicReferenceArray<>(table.size());
+    this.pathCache = pathCache;
+    this.listener = listener;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(PathTemplateContext context, Class<?>... modelTypes) {
+    final ResourceDescriptor descriptor = lookup(modelTypes);
+    if (descriptor == null) {
+      return delegate().resolve(context, modelTypes);
+    }
+    final BindingPlan bindingPlan = descriptor.bindingPlan();
+    if (bindingPlan != null) {
+      return bindingPlan.resolve(context);
+    }
+    return descriptor.templateResolver().resolve(descriptor.path(), context);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolveWith(Object[] values, Class<?>... modelTypes) {
+    final ResourceDescriptor descriptor = lookup(modelTypes);
+    if (descriptor == null) {
+      return delegate().resolveWith(values, modelTypes);
+    }
+    if (pathCache == null) {
+      return descriptor.template().expand(values);
+    }
+    return pathCache.expand(descriptor, descriptor.template(), values);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ResourcePathHandle handle(Class<?>... modelTypes) {
+    final ResourceDescriptor descriptor = lookup(modelTypes);
+    if (descriptor == null) {
+      return delegate().handle(modelTypes);
+    }
+    return new SimpleResourcePathHandle(descriptor.template());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation materializes every descriptor in the table, looks
+   * up each descriptor's model path, and then warms up the resolver used
+   * for model paths that are not found in the lookup index.
+   */
+  @Override
+  public long warmUp() throws ResourceConfigurationException {
+    final long start = System.nanoTime();
+    for (int i = 0, max = table.size(); i < max; i++) {
+      final ResourceDescriptor descriptor = descriptor(i);
+      lookup(descriptor.referencedBy().asArray());
+      descriptor.template().warmUp();
+    }
+    delegate().warmUp();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  /**
+   * Finds the descriptor whose model path is exactly the given model path.
+   * @param modelTypes the subject model path
+   * @return descriptor or {@code null} if there is no such descriptor
+   */
+  private ResourceDescriptor lookup(Class<?>[] modelTypes) {
+    final int hash = DescriptorTable.hash(modelTypes);
+    int entry = table.lookup(hash);
+    if (entry < 0) return null;
+    final int size = table.lookupSize();
+    while (entry < size && table.lookupHash(entry) == hash) {
+      final ResourceDescriptor descriptor =
+          descriptor(table.lookupRecord(entry++));
+      if (isModelPath(descriptor, modelTypes)) {
+        return descriptor;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isModelPath(ResourceDescriptor descriptor,
+      Class<?>[] modelTypes) {
+    final List<Class<?>> modelPath = descriptor.referencedBy().asList();
+    if (modelPath.size() != modelTypes.length) return false;
+    for (int i = 0; i < modelTypes.length; i++) {
+      if (modelPath.get(i) != modelTypes[i]) return false;
+    }
+    return true;
+  }
+
+  private ResourceDescriptor descriptor(int record) {
+    ResourceDescriptor descriptor = descriptors.get(record);
+    if (descriptor == null) {
+      descriptors.compareAndSet(record, null, newDescriptor(record));
+      descriptor = descriptors.get(record);
+    }
+    return descriptor;
+  }
+
+  private ResourceDescriptor newDescriptor(int record) {
+    try {
+      return table.toDescriptor(record, classLoader);
+    }
+    catch (ClassNotFoundException ex) {
+      throw new ResourceConfigurationException(
+          "cannot load class for descriptor table record "
+          + record + ": " + ex.getMessage());
+    }
+  }
+
+  private SimpleResourcePathResolver delegate() {
+    SimpleResourcePathResolver delegate = this.delegate;
+    if (delegate == null) {
+      synchronized (this) {
+        delegate = this.delegate;
+        if (delegate == null) {
+          delegate = new SimpleResourcePathResolver(pathCache, listener);
+          for (int i = 0, max = table.size(); i < max; i++) {
+            delegate.addDescriptor(descriptor(i));
+          }
+          this.delegate = delegate;
+        }
+      }
+    }
+    return delegate;
+  }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.ServletRequest;
+
+/**
+ * A {@link ResourcePathResolver} decorator that remembers each path it
+ * resolves, for use over the lifetime of a single request.
+ * <p>
+ * A path resolved using a context is remembered using the model path and
+ * the identities of the objects in the context.  When the same model path
+ * is resolved again using the same objects (e.g. the owning customer of
+ * each of many orders in a response), the remembered path is returned
+ * without consulting the delegate resolver.  A path resolved using
+ * positional values is remembered using the model path and the values
+ * themselves, compared using {@link Object#equals(Object)}, so that
+ * equal identifiers (e.g. boxed numbers) share a remembered path.  Because the model objects are assumed not to change
+ * while the request is processed, an instance of this class must not be
+ * shared between requests; use {@link #forRequest(ServletRequest,
+ * ResourcePathResolver)} to obtain an instance that is discarded along with
+ * the request, or create one in a request-scoped producer.
+ * <p>
+ * Only resolutions that use a {@link PathTemplateContextMap} or positional
+ * values are remembered; any other context is passed to the delegate on
+ * every call.
+ *
+ * @author Carl Harris
+ */
+public class MemoizingResourcePathResolver implements ResourcePathResolver {
+
+  private static final String REQUEST_ATTRIBUTE =
+      MemoizingResourcePathResolver.class.getName();
+
+  private final Map<Key, String> paths = new ConcurrentHashMap<>();
+
+  private final ResourcePathResolver delegate;
+
+  /**
+   * Constructs a new instance.
+   * @param delegate the resolver that will resolve paths that have not
+   *    yet been remembered
+   */
+  public MemoizingResourcePathResolver(ResourcePathResolver delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Gets the memoizing resolver for the given request, creating it if
+   * necessary.
+   * <p>
+   * The resolver is stored as an attribute of the request, and is therefore
+   * discarded when the request is completed.
+   * @param request the subject request
+   * @param delegate the resolver that will resolve paths that have not
+   *    yet been remembered
+   * @return memoizing resolver for {@code request}
+   */
+  public static MemoizingResourcePathResolver forRequest(
+      ServletRequest request, ResourcePathResolver delegate) {
+    MemoizingResourcePathResolver resolver = (MemoizingResourcePathResolver)
+        request.getAttribute(REQUEST_ATTRIBUTE);
+    if (resolver == null) {
+      resolver = new MemoizingResourcePathResolver(delegate);
+      request.setAttribute(REQUEST_ATTRIBUTE, resolver);
+    }
+    return resolver;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(PathTemplateContext context, Class<?>... modelTypes) {
+    if (!(context instanceof PathTemplateContextMap)) {
+      return delegate.resolve(context, modelTypes);
+    }
+    final Key key = new Key(modelTypes,
+        ((PathTemplateContextMap) context).identityKey());
+    String path = paths.get(key);
+    if (path == null) {
+      path = delegate.resolve(context, modelTypes);
+      paths.put(key, path);
+    }
+    return path;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolveWith(Object[] values, Class<?>... modelTypes) {
+    final Key key = new Key(modelTypes, new ValuesKey(values.clone()));
+    String path = paths.get(key);
+    if (path == null) {
+      path = delegate.resolveWith(values, modelTypes);
+      paths.put(key, path);
+    }
+    return path;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ResourcePathHandle handle(Class<?>... modelTypes) {
+    return delegate.handle(modelTypes);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation warms up the delegate resolver; no paths are
+   * remembered.
+   */
+  @Override
+  public long warmUp() throws ResourceConfigurationException {
+    return delegate.warmUp();
+  }
+
+  /**
+   * Discards all remembered paths.
+   */
+  public void clear() {
+    paths.clear();
+  }
+
+  /**
+   * A key for a remembered path.
+   */
+  private static class Key {
+
+    private final Class<?>[] modelTypes;
+    private final Object valuesKey;
+    private final int hashCode;
+
+    Key(Class<?>[] modelTypes, Object valuesKey) {
+      this.modelTypes = modelTypes.clone();
+      this.valuesKey = valuesKey;
+      this.hashCode = 31 * Arrays.hashCode(modelTypes) + valuesKey.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof Key)) return false;
+      final Key that = (Key) obj;
+      return Arrays.equals(this.modelTypes, that.modelTypes)
+          && this.valuesKey.equals(that.valuesKey);
+    }
+
+  }
+
+  /**
+   * A key representing a sequence of positional values.
+   */
+  private static class ValuesKey {
+
+    private final Object[] values;
+    private final int hashCode;
+
+    ValuesKey(Object[] values) {
+      this.values = values;
+      this.hashCode = Arrays.hashCode(values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof ValuesKey)) return false;
+      return Arrays.equals(this.values, ((ValuesKey) obj).values);
+    }
+
+  }
+
+}
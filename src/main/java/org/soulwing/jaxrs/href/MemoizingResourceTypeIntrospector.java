@@ -0,0 +1,280 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ResourceTypeIntrospector} that introspects the subtree of each
+ * resource type once, and grafts the result at each other position at
+ * which the type is reached.
+ * <p>
+ * When a type is first introspected, the resulting descriptors are
+ * recorded relative to the path and model path at which the type was
+ * introspected.  When the same type (with the same inherited template
+ * resolver) is subsequently reached through another parent, its recorded
+ * descriptors are relocated under the path and model path of that parent,
+ * without introspecting the subtree again.  Discovery cost therefore
+ * grows with the number of distinct types rather than with the number of
+ * paths to them.
+ * <p>
+ * A subtree that is position dependent (see {@link SubtreeCollector}) is
+ * not recorded, and is introspected at each position.
+ * <p>
+ * Because sub-resource locators may be self-referential or mutually
+ * recursive, introspection fails with a
+ * {@link ResourceConfigurationException} that describes the offending
+ * chain of types if a type is reached again at the same model path within
+ * a single chain (a cycle), or if a chain exceeds a maximum depth.
+ * <p>
+ * An instance of this class is safe for concurrent use.
+ *
+ * @author Carl Harris
+ */
+class MemoizingResourceTypeIntrospector implements ResourceTypeIntrospector {
+
+  /**
+   * Default maximum number of types in a chain from a root resource type
+   * through its sub-resource types.
+   */
+  static final int DEFAULT_MAX_DEPTH = 32;
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(MemoizingResourceTypeIntrospector.class);
+
+  private final ConcurrentMap<SubtreeKey, Subtree> subtrees =
+      new ConcurrentHashMap<>();
+
+  private final ResourceTypeIntrospector delegate;
+  private final int maxDepth;
+
+  /**
+   * Constructs a new instance that memoizes the results of a
+   * {@link ReflectionResourceTypeIntrospector}, using the default maximum
+   * depth.
+   */
+  MemoizingResourceTypeIntrospector() {
+    this(DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Constructs a new instance that memoizes the results of a
+   * {@link ReflectionResourceTypeIntrospector}.
+   * @param maxDepth maximum number of types in a chain from a root resource
+   *    type through its sub-resource types
+   */
+  MemoizingResourceTypeIntrospector(int maxDepth) {
+    this.delegate = new ReflectionResourceTypeIntrospector(
+        new SimpleResourceDescriptorFactory(),
+        new ReflectionResourceMethodIntrospector(), this);
+    this.maxDepth = maxDepth;
+  }
+
+  @Override
+  public void describe(Class<?> type, String resourcePath, ModelPath modelPath,
+      TemplateResolver templateResolver,
+      ReflectionService reflectionService,
+      DescriptorSink resolver)
+      throws ResourceConfigurationException {
+
+    final SubtreeCollector enclosing = SubtreeCollector.enclosing(resolver);
+    if (enclosing != null && enclosing.find(type, modelPath) != null) {
+      throw new ResourceConfigurationException(
+          "cyclic sub-resource chain: " + enclosing.chain() + " -> "
+          + type.getSimpleName() + " " + modelPath);
+    }
+
+    final SubtreeCollector collector =
+        new SubtreeCollector(enclosing, type, modelPath, resolver.basePath());
+
+    final SubtreeKey key = new SubtreeKey(type, templateResolver);
+    final Subtree subtree = subtrees.get(key);
+    if (subtree != null) {
+      checkDepth(collector, subtree.height);
+      logger.trace("grafting subtree of {} at {}", type.getSimpleName(),
+          resourcePath);
+      subtree.graft(resourcePath, modelPath, resolver);
+      if (enclosing != null) {
+        enclosing.addSubtree(subtree.height);
+      }
+      return;
+    }
+
+    checkDepth(collector, 0);
+    delegate.describe(type, resourcePath, modelPath, templateResolver,
+        reflectionService, collector);
+
+    for (ResourceDescriptor descriptor : collector.descriptors()) {
+      resolver.addDescriptor(descriptor);
+    }
+
+    if (enclosing != null) {
+      enclosing.addSubtree(collector.height());
+    }
+
+    if (collector.isPositionDependent()) {
+      SubtreeCollector.markPositionDependent(resolver);
+      return;
+    }
+
+    final Subtree result = Subtree.of(resourcePath, modelPath,
+        collector.descriptors(), collector.height());
+    if (result != null) {
+      subtrees.putIfAbsent(key, result);
+    }
+  }
+
+  private void checkDepth(SubtreeCollector collector, int height) {
+    if (collector.depth() + height > maxDepth) {
+      throw new ResourceConfigurationException(
+          "sub-resource chain exceeds maximum depth of " + maxDepth + ": "
+          + collector.chain() + (height > 0 ?
+              " -> (" + height + " more)" : ""));
+    }
+  }
+
+  /**
+   * Joins a resource path and a relative path.
+   * @param path resource path
+   * @param relativePath relative path
+   * @return joined path, with exactly one separator between the parts
+   */
+  static String join(String path, String relativePath) {
+    if (relativePath.isEmpty()) return path;
+    final boolean trailing = path.endsWith("/");
+    final boolean leading = relativePath.startsWith("/");
+    if (trailing && leading) return path + relativePath.substring(1);
+    if (!trailing && !leading) return path + "/" + relativePath;
+    return path + relativePath;
+  }
+
+  /**
+   * A memoization key for a type subtree.
+   */
+  private static class SubtreeKey {
+
+    private final Class<?> type;
+    private final Class<?> templateResolver;
+
+    SubtreeKey(Class<?> type, TemplateResolver templateResolver) {
+      this.type = type;
+      this.templateResolver = templateResolver != null ?
+          templateResolver.value() : null;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * type.hashCode()
+          + (templateResolver != null ? templateResolver.hashCode() : 0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof SubtreeKey)) return false;
+      final SubtreeKey that = (SubtreeKey) obj;
+      return this.type.equals(that.type)
+          && (this.templateResolver == null ?
+              that.templateResolver == null :
+              this.templateResolver.equals(that.templateResolver));
+    }
+
+  }
+
+  /**
+   * The descriptors of a type subtree, relative to the position of the
+   * type.
+   */
+  private static class Subtree {
+
+    private final List<AbstractResourceDescriptor> descriptors;
+    private final List<String> relativePaths;
+    private final List<List<Class<?>>> relativeModelPaths;
+    private final int height;
+
+    private Subtree(List<AbstractResourceDescriptor> descriptors,
+        List<String> relativePaths,
+        List<List<Class<?>>> relativeModelPaths, int height) {
+      this.descriptors = descriptors;
+      this.relativePaths = relativePaths;
+      this.relativeModelPaths = relativeModelPaths;
+      this.height = height;
+    }
+
+    /**
+     * Creates a subtree from the descriptors collected at a given position.
+     * @param resourcePath resource path of the position
+     * @param modelPath model path of the position
+     * @param descriptors collected descriptors
+     * @param height height of the subtree
+     * @return subtree or {@code null} if any descriptor cannot be relocated
+     */
+    static Subtree of(String resourcePath, ModelPath modelPath,
+        List<ResourceDescriptor> descriptors, int height) {
+      final int size = descriptors.size();
+      final List<AbstractResourceDescriptor> relocatable =
+          new ArrayList<>(size);
+      final List<String> relativePaths = new ArrayList<>(size);
+      final List<List<Class<?>>> relativeModelPaths = new ArrayList<>(size);
+      for (ResourceDescriptor descriptor : descriptors) {
+        if (!(descriptor instanceof AbstractResourceDescriptor)
+            || !descriptor.path().startsWith(resourcePath)) {
+          return null;
+        }
+        final List<Class<?>> descriptorModelPath =
+            descriptor.referencedBy().asList();
+        if (descriptorModelPath.size() < modelPath.length()
+            || !descriptorModelPath.subList(0, modelPath.length())
+                .equals(modelPath.asList())) {
+          return null;
+        }
+        relocatable.add((AbstractResourceDescriptor) descriptor);
+        relativePaths.add(descriptor.path().substring(resourcePath.length()));
+        relativeModelPaths.add(new ArrayList<>(descriptorModelPath.subList(
+            modelPath.length(), descriptorModelPath.size())));
+      }
+      return new Subtree(relocatable, relativePaths, relativeModelPaths,
+          height);
+    }
+
+    /**
+     * Adds the descriptors of this subtree, relocated to the given
+     * position, to a resolver.
+     * @param resourcePath resource path of the position
+     * @param modelPath model path of the position
+     * @param resolver the target resolver
+     */
+    void graft(String resourcePath, ModelPath modelPath,
+        DescriptorSink resolver) {
+      for (int i = 0, max = descriptors.size(); i < max; i++) {
+        resolver.addDescriptor(descriptors.get(i).relocate(
+            join(resourcePath, relativePaths.get(i)), resolver.basePath(),
+            modelPath.concat(relativeModelPaths.get(i))));
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A {@link ResourcePathResolver} decorator that records the metrics of
+ * each resolution performed by a delegate resolver.
+ *
+ * @author Carl Harris
+ */
+class MeteredResourcePathResolver implements ResourcePathResolver {
+
+  private final ResourcePathResolver delegate;
+  private final ResolverMetrics metrics;
+
+  /**
+   * Constructs a new instance.
+   * @param delegate the delegate resolver
+   * @param metrics metrics to record
+   */
+  MeteredResourcePathResolver(ResourcePathResolver delegate,
+      ResolverMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Gets the metrics recorded by this resolver.
+   * @return metrics
+   */
+  ResolverMetrics metrics() {
+    return metrics;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(PathTemplateContext context,
+      Class<?>... modelTypes) {
+    final long start = System.nanoTime();
+    try {
+      return delegate.resolve(context, modelTypes);
+    }
+    catch (ResourceNotFoundException ex) {
+      metrics.missed();
+      throw ex;
+    }
+    catch (AmbiguousPathResolutionException ex) {
+      metrics.ambiguous();
+      throw ex;
+    }
+    finally {
+      metrics.resolved(modelTypes, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolveWith(Object[] values, Class<?>... modelTypes) {
+    final long start = System.nanoTime();
+    try {
+      return delegate.resolveWith(values, modelTypes);
+    }
+    catch (ResourceNotFoundException ex) {
+      metrics.missed();
+      throw ex;
+    }
+    catch (AmbiguousPathResolutionException ex) {
+      metrics.ambiguous();
+      throw ex;
+    }
+    finally {
+      metrics.resolved(modelTypes, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ResourcePathHandle handle(Class<?>... modelTypes) {
+    final long start = System.nanoTime();
+    try {
+      return delegate.handle(modelTypes);
+    }
+    catch (ResourceNotFoundException ex) {
+      metrics.missed();
+      throw ex;
+    }
+    catch (AmbiguousPathResolutionException ex) {
+      metrics.ambiguous();
+      throw ex;
+    }
+    finally {
+      metrics.resolved(modelTypes, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Warm-up of the delegate resolver is not recorded.
+   */
+  @Override
+  public long warmUp() throws ResourceConfigurationException {
+    return delegate.warmUp();
+  }
+
+}
@@ -24,8 +24,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-import org.omg.CORBA.Any;
-
 /**
  * An abstracting for a path of model classes.
  *
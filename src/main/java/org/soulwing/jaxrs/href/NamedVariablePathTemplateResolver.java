@@ -0,0 +1,90 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A {@link BindingPathTemplateResolver} that binds each template variable
+ * to the context object with the same name.
+ * <p>
+ * For example, the variable in the template <code>/customers/{id}</code>
+ * is replaced by the string value of the object put into the context using
+ * the name {@code id}.
+ * <p>
+ * An instance created using the public constructor binds a variable of any
+ * name, so a variable that the caller never puts into the context is not
+ * detected until a path is resolved.  A subclass can instead declare the
+ * names of the variables that its callers supply, so that a template that
+ * uses any other variable is reported as a configuration error when
+ * resources are discovered:
+ * <pre>
+ * public class OrderPathResolver extends NamedVariablePathTemplateResolver {
+ *   public OrderPathResolver() {
+ *     super("customerId", "orderId");
+ *   }
+ * }
+ * </pre>
+ *
+ * @author Carl Harris
+ */
+public class NamedVariablePathTemplateResolver
+    extends AbstractBindingPathTemplateResolver {
+
+  private final Set<String> variables;
+
+  /**
+   * Constructs a new instance that binds a variable of any name.
+   */
+  public NamedVariablePathTemplateResolver() {
+    this.variables = null;
+  }
+
+  /**
+   * Constructs a new instance that binds only the given variables.
+   * @param variables names of the variables that callers put into the
+   *    context
+   */
+  protected NamedVariablePathTemplateResolver(String... variables) {
+    this.variables = Collections.unmodifiableSet(
+        new LinkedHashSet<>(Arrays.asList(variables)));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation returns {@code null} if this resolver was
+   * constructed with a set of variable names that does not include
+   * {@code variable}.
+   */
+  @Override
+  public TemplateVariableBinding bind(final String variable) {
+    if (variables != null && !variables.contains(variable)) return null;
+    return new TemplateVariableBinding() {
+      @Override
+      public Object valueOf(PathTemplateContext context) {
+        return context.get(variable, Object.class);
+      }
+    };
+  }
+
+}
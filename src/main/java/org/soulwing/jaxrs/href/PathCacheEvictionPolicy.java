@@ -0,0 +1,35 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A policy for choosing the entry to evict when a bounded cache of
+ * resolved resource paths is full.
+ *
+ * @author Carl Harris
+ */
+public enum PathCacheEvictionPolicy {
+
+  /** Evict the entry that was least recently used */
+  LEAST_RECENTLY_USED,
+
+  /** Evict the entry that was least recently added */
+  FIRST_IN_FIRST_OUT;
+
+}
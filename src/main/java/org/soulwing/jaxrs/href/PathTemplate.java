@@ -0,0 +1,350 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compiled JAX-RS resource path template.
+ * <p>
+ * A template is parsed once into an alternating sequence of literal text
+ * and variable placeholders of the form <code>{name}</code> or
+ * <code>{name: regex}</code>.  The variable names are available in the
+ * order in which they appear in the template, and the template can be
+ * expanded by supplying a value for each variable in that same order.
+ * <p>
+ * The literal text that precedes the first variable is typically the
+ * context path and application path, followed by the path of the resource.
+ * When a template is compiled with a base path (as resource discovery does,
+ * using the context-qualified application path), a template that begins
+ * with the base path holds the given instance of it, so that a single
+ * instance is shared by all templates compiled with it, and holds the
+ * remainder of the prefix as an interned string shared only by templates
+ * with the same resource prefix.  Otherwise, the entire prefix is held as
+ * an interned string.  In either case, expansion copies each part of the
+ * prefix in a single operation without examining its characters.
+ *
+ * @author Carl Harris
+ */
+class PathTemplate {
+
+  private static final int VALUE_LENGTH_ESTIMATE = 12;
+
+  private final String template;
+  private final String basePath;
+  private final String resourcePrefix;
+  private final String[] literals;
+  private final String[] variables;
+  private final int literalLength;
+
+  private PathTemplate(String template, String basePath, String[] literals,
+      String[] variables) {
+    this.template = template;
+    this.basePath = isBasePathOf(basePath, literals[0]) ? basePath : "";
+    this.resourcePrefix =
+        literals[0].substring(this.basePath.length()).intern();
+    this.literals = literals;
+    this.variables = variables;
+    int literalLength = 0;
+    for (String literal : literals) {
+      literalLength += literal.length();
+    }
+    this.literalLength = literalLength;
+  }
+
+  /**
+   * Determines whether a template prefix begins with a base path.
+   * @param basePath the base path
+   * @param prefix literal prefix of a template
+   * @return {@code true} if {@code basePath} is neither empty nor the root
+   *    path, and {@code prefix} begins with it followed by a path separator
+   *    or the end of the prefix
+   */
+  private static boolean isBasePathOf(String basePath, String prefix) {
+    return basePath.length() > 1
+        && prefix.startsWith(basePath)
+        && (prefix.length() == basePath.length()
+            || basePath.charAt(basePath.length() - 1) == '/'
+            || prefix.charAt(basePath.length()) == '/');
+  }
+
+  /**
+   * Compiles the given path template.
+   * @param template the template to compile
+   * @return compiled template
+   * @throws ResourceConfigurationException if {@code template} contains
+   *    a malformed variable placeholder
+   */
+  public static PathTemplate compile(String template)
+      throws ResourceConfigurationException {
+    return compile(template, "");
+  }
+
+  /**
+   * Compiles the given path template, sharing the given base path.
+   * @param template the template to compile
+   * @param basePath the base path shared by the templates of an application
+   *    (typically the context-qualified application path); if the literal
+   *    prefix of {@code template} begins with it, the compiled template
+   *    holds this instance of it
+   * @return compiled template
+   * @throws ResourceConfigurationException if {@code template} contains
+   *    a malformed variable placeholder
+   */
+  public static PathTemplate compile(String template, String basePath)
+      throws ResourceConfigurationException {
+    final List<String> literals = new ArrayList<>();
+    final List<String> variables = new ArrayList<>();
+    final int length = template.length();
+    int start = 0;
+    int i = 0;
+    while (i < length) {
+      if (template.charAt(i) != '{') {
+        i++;
+        continue;
+      }
+      literals.add(template.substring(start, i));
+      final int end = endOfVariable(template, i);
+      variables.add(variableName(template, i + 1, end));
+      start = i = end + 1;
+    }
+    literals.add(template.substring(start));
+    return new PathTemplate(template, basePath,
+        literals.toArray(new String[literals.size()]),
+        variables.toArray(new String[variables.size()]));
+  }
+
+  private static int endOfVariable(String template, int open) {
+    int depth = 0;
+    for (int i = open, max = template.length(); i < max; i++) {
+      final char c = template.charAt(i);
+      if (c == '{') {
+        depth++;
+      }
+      else if (c == '}' && --depth == 0) {
+        return i;
+      }
+    }
+    throw new ResourceConfigurationException(
+        "unterminated variable in path template '" + template + "'");
+  }
+
+  private static String variableName(String template, int start, int end) {
+    final int colon = template.indexOf(':', start);
+    final String name = template.substring(start,
+        colon != -1 && colon < end ? colon : end).trim();
+    if (name.isEmpty()) {
+      throw new ResourceConfigurationException(
+          "empty variable name in path template '" + template + "'");
+    }
+    return name;
+  }
+
+  /**
+   * Gets the template string from which this template was compiled.
+   * @return template string
+   */
+  public String template() {
+    return template;
+  }
+
+  /**
+   * Gets the literal prefix of this template.
+   * @return the literal text that precedes the first variable of this
+   *    template, or the entire template if it has no variables; the result
+   *    is an interned string unless the template begins with a shared base
+   *    path and has at least one variable
+   */
+  public String prefix() {
+    if (variables.length == 0) return template;
+    return basePath.isEmpty() ? resourcePrefix : basePath + resourcePrefix;
+  }
+
+  /**
+   * Gets the shared base path with which this template begins.
+   * @return the base path with which this template was compiled, or the
+   *    empty string if this template does not begin with it
+   */
+  String basePath() {
+    return basePath;
+  }
+
+  /**
+   * Gets the names of the variables in this template.
+   * @return list of variable names in the order in which they appear
+   *    in the template; a name that appears more than once in the template
+   *    will appear more than once in this list
+   */
+  public List<String> variables() {
+    return Collections.unmodifiableList(Arrays.asList(variables));
+  }
+
+  /**
+   * Gets the number of variables in this template.
+   * @return variable count
+   */
+  public int variableCount() {
+    return variables.length;
+  }
+
+  /**
+   * Expands this template using the given variable values.
+   * @param values values for the variables of this template, in the
+   *    order given by {@link #variables()}
+   * @return expanded path
+   * @throws IllegalArgumentException if the number of values is not equal
+   *    to the number of variables in this template
+   * @throws NullPointerException if any value is {@code null}
+   */
+  public String expand(Object... values) {
+    if (values.length != variables.length) {
+      throw new IllegalArgumentException("template '" + template
+          + "' requires " + variables.length + " value(s); got "
+          + values.length);
+    }
+    if (variables.length == 0) {
+      return template;
+    }
+    final StringBuilder sb = newBuilder();
+    for (int i = 0; i < variables.length; i++) {
+      if (values[i] == null) {
+        throw new NullPointerException("no value for variable '"
+            + variables[i] + "' in template '" + template + "'");
+      }
+      appendEncoded(sb, values[i].toString());
+      sb.append(literals[i + 1]);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Expands this template using the given numeric variable values.
+   * <p>
+   * This method is equivalent to {@link #expand(Object...)}, but avoids
+   * boxing each value and percent-encoding its string representation.
+   * @param values values for the variables of this template, in the
+   *    order given by {@link #variables()}
+   * @return expanded path
+   * @throws IllegalArgumentException if the number of values is not equal
+   *    to the number of variables in this template
+   */
+  public String expand(long[] values) {
+    if (values.length != variables.length) {
+      throw new IllegalArgumentException("template '" + template
+          + "' requires " + variables.length + " value(s); got "
+          + values.length);
+    }
+    if (variables.length == 0) {
+      return template;
+    }
+    final StringBuilder sb = newBuilder();
+    for (int i = 0; i < variables.length; i++) {
+      sb.append(values[i]);
+      sb.append(literals[i + 1]);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Expands this template once with placeholder values, so that the code
+   * involved in expansion is exercised before first use.
+   */
+  void warmUp() {
+    final Object[] values = new Object[variables.length];
+    Arrays.fill(values, "0");
+    expand(values);
+  }
+
+  /**
+   * Creates a builder for an expanded path, initialized with the prefix of
+   * this template.
+   * @return string builder
+   */
+  private StringBuilder newBuilder() {
+    final StringBuilder sb = new StringBuilder(
+        literalLength + VALUE_LENGTH_ESTIMATE * variables.length);
+    sb.append(basePath);
+    sb.append(resourcePrefix);
+    return sb;
+  }
+
+  /**
+   * Appends a variable value to a path, percent-encoding any character that
+   * may not appear literally in a path segment.
+   * @param sb the path being built
+   * @param value the value to append
+   */
+  private static void appendEncoded(StringBuilder sb, String value) {
+    for (int i = 0, max = value.length(); i < max; i++) {
+      final char c = value.charAt(i);
+      if (isSegmentChar(c)) {
+        sb.append(c);
+      }
+      else {
+        appendPercentEncoded(sb, value, i);
+        return;
+      }
+    }
+  }
+
+  private static void appendPercentEncoded(StringBuilder sb, String value,
+      int offset) {
+    final byte[] bytes = value.substring(offset).getBytes(
+        StandardCharsets.UTF_8);
+    for (byte b : bytes) {
+      final char c = (char) (b & 0xff);
+      if (c < 0x80 && isSegmentChar(c)) {
+        sb.append(c);
+      }
+      else {
+        sb.append('%');
+        sb.append(Character.toUpperCase(Character.forDigit(c >> 4, 16)));
+        sb.append(Character.toUpperCase(Character.forDigit(c & 0xf, 16)));
+      }
+    }
+  }
+
+  private static boolean isSegmentChar(char c) {
+    if (c >= 'a' && c <= 'z') return true;
+    if (c >= 'A' && c <= 'Z') return true;
+    if (c >= '0' && c <= '9') return true;
+    switch (c) {
+      case '-': case '.': case '_': case '~':
+      case '!': case '$': case '&': case '\'': case '(': case ')':
+      case '*': case '+': case ',': case ';': case '=':
+      case ':': case '@':
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return template;
+  }
+
+}
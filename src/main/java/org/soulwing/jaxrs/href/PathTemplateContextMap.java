@@ -125,6 +125,18 @@ public class PathTemplateContextMap implements PathTemplateContext {
     put(entry.name, entry.value);
   }
   
+  /**
+   * Creates a key that identifies the objects in this context.
+   * <p>
+   * Two keys are equal if the contexts from which they were created held
+   * the same objects (by identity) under the same names at the time the
+   * keys were created.
+   * @return identity key
+   */
+  Object identityKey() {
+    return new IdentityKey(set.toArray(), new HashMap<>(map));
+  }
+
   /**
    * Creates a new context with the given objects.
    * @param objs objects to place into the context
@@ -151,6 +163,59 @@ public class PathTemplateContextMap implements PathTemplateContext {
     return context;
   }
   
+  /**
+   * A snapshot of the identities of the objects in a context.
+   */
+  private static class IdentityKey {
+
+    private final Object[] values;
+    private final Map<String, Object> named;
+    private final int hashCode;
+
+    IdentityKey(Object[] values, Map<String, Object> named) {
+      this.values = values;
+      this.named = named;
+      int hashCode = 0;
+      for (Object value : values) {
+        hashCode += System.identityHashCode(value);
+      }
+      for (Map.Entry<String, Object> entry : named.entrySet()) {
+        hashCode += 31 * entry.getKey().hashCode()
+            ^ System.identityHashCode(entry.getValue());
+      }
+      this.hashCode = hashCode;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof IdentityKey)) return false;
+      final IdentityKey that = (IdentityKey) obj;
+      if (this.values.length != that.values.length) return false;
+      if (this.named.size() != that.named.size()) return false;
+      for (Map.Entry<String, Object> entry : named.entrySet()) {
+        if (that.named.get(entry.getKey()) != entry.getValue()) return false;
+      }
+      for (Object value : values) {
+        if (!containsIdentical(that.values, value)) return false;
+      }
+      return true;
+    }
+
+    private static boolean containsIdentical(Object[] values, Object value) {
+      for (Object candidate : values) {
+        if (candidate == value) return true;
+      }
+      return false;
+    }
+
+  }
+
   /**
    * A named object for a context.
    */
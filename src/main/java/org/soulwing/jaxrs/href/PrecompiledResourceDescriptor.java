@@ -0,0 +1,84 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A {@link ResourceDescriptor} for a resource that was described in
+ * advance, either at build time or in a previously stored
+ * {@link DescriptorTable}.
+ *
+ * @author Carl Harris
+ */
+class PrecompiledResourceDescriptor extends AbstractResourceDescriptor {
+
+  private final String resourceType;
+  private final String resourceName;
+
+  /**
+   * Constructs a new instance.
+   * @param resourceType type of the described resource
+   *    (e.g. {@code method})
+   * @param resourceName name of the described resource
+   * @param path resource path template
+   * @param referencedBy model path
+   * @param templateResolver path template resolver
+   */
+  public PrecompiledResourceDescriptor(String resourceType,
+      String resourceName, String path, ModelPath referencedBy,
+      PathTemplateResolver templateResolver) {
+    this(resourceType, resourceName, path, "", referencedBy,
+        templateResolver);
+  }
+
+  /**
+   * Constructs a new instance whose path template shares a base path.
+   * @param resourceType type of the described resource
+   *    (e.g. {@code method})
+   * @param resourceName name of the described resource
+   * @param path resource path template
+   * @param basePath base path shared by the templates of the application
+   * @param referencedBy model path
+   * @param templateResolver path template resolver
+   */
+  public PrecompiledResourceDescriptor(String resourceType,
+      String resourceName, String path, String basePath,
+      ModelPath referencedBy, PathTemplateResolver templateResolver) {
+    super(path, basePath, referencedBy, templateResolver);
+    this.resourceType = resourceType;
+    this.resourceName = resourceName;
+  }
+
+  @Override
+  public String resourceType() {
+    return resourceType;
+  }
+
+  @Override
+  public String resourceName() {
+    return resourceName;
+  }
+
+  @Override
+  AbstractResourceDescriptor relocate(String path, String basePath,
+      ModelPath referencedBy) {
+    return new PrecompiledResourceDescriptor(resourceType, resourceName, path,
+        basePath, referencedBy, templateResolver());
+  }
+
+}
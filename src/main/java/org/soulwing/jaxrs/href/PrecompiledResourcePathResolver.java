@@ -0,0 +1,223 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An abstract base for resolvers generated at build time by
+ * {@link ResolverSourceGenerator}.
+ * <p>
+ * A generated subclass supplies a table of resource descriptors, with each
+ * template resolver constructed directly, and a dispatch method that maps
+ * model paths to entries of that table without any intermediate objects.
+ * No class path scanning, annotation introspection, or reflective
+ * instantiation takes place when a generated resolver is created.
+ * <p>
+ * A model path that is not handled by the dispatch method (i.e. one that
+ * is matched only by a wildcard model path) is resolved by matching it
+ * against the descriptors in the table.
+ * <p>
+ * The paths in the table are relative to the servlet context, so that the
+ * generated class does not depend on the context path at which the
+ * application is deployed.  The context path is supplied when the resolver
+ * is constructed, and is prepended to each path in the table.
+ *
+ * @author Carl Harris
+ */
+public abstract class PrecompiledResourcePathResolver
+    implements ResourcePathResolver {
+
+  private final ResourceDescriptor[] descriptors;
+  private final SimpleResourcePathResolver delegate;
+
+  /**
+   * Constructs a new instance for an application deployed at the root
+   * context.
+   * @param entries table of resource descriptor entries; the index of each
+   *    entry is the value returned by {@link #dispatch(Class[])} for model
+   *    paths that reference it
+   * @throws ResourceConfigurationException if the entries do not describe
+   *    a valid resource configuration
+   */
+  protected PrecompiledResourcePathResolver(Entry... entries)
+      throws ResourceConfigurationException {
+    this("", entries);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param contextPath servlet context path of the application
+   *    (e.g. as returned by {@code ServletContext.getContextPath()});
+   *    an empty string for the root context
+   * @param entries table of resource descriptor entries; the index of each
+   *    entry is the value returned by {@link #dispatch(Class[])} for model
+   *    paths that reference it
+   * @throws ResourceConfigurationException if the entries do not describe
+   *    a valid resource configuration
+   */
+  protected PrecompiledResourcePathResolver(String contextPath,
+      Entry... entries) throws ResourceConfigurationException {
+    final String basePath = contextBasePath(contextPath);
+    this.descriptors = new ResourceDescriptor[entries.length];
+    this.delegate = new SimpleResourcePathResolver();
+    for (int i = 0; i < entries.length; i++) {
+      descriptors[i] = entries[i].toDescriptor(basePath);
+      delegate.addDescriptor(descriptors[i]);
+    }
+    delegate.validate();
+  }
+
+  /**
+   * Maps a model path to the index of the entry that it references.
+   * @param modelTypes the subject model path
+   * @return index of the entry that {@code modelTypes} references exactly
+   *    or -1 if there is no such entry
+   */
+  protected abstract int dispatch(Class<?>[] modelTypes);
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(PathTemplateContext context, Class<?>... modelTypes) {
+    final int index = dispatch(modelTypes);
+    if (index < 0) {
+      return delegate.resolve(context, modelTypes);
+    }
+    final ResourceDescriptor descriptor = descriptors[index];
+    final BindingPlan bindingPlan = descriptor.bindingPlan();
+    if (bindingPlan != null) {
+      return bindingPlan.resolve(context);
+    }
+    return descriptor.templateResolver().resolve(descriptor.path(), context);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolveWith(Object[] values, Class<?>... modelTypes) {
+    final int index = dispatch(modelTypes);
+    if (index < 0) {
+      return delegate.resolveWith(values, modelTypes);
+    }
+    return descriptors[index].template().expand(values);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ResourcePathHandle handle(Class<?>... modelTypes) {
+    final int index = dispatch(modelTypes);
+    if (index < 0) {
+      return delegate.handle(modelTypes);
+    }
+    return new SimpleResourcePathHandle(descriptors[index].template());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation dispatches the model path of every descriptor,
+   * and then warms up the resolver used for model paths that are not
+   * dispatched.
+   */
+  @Override
+  public long warmUp() {
+    final long start = System.nanoTime();
+    for (ResourceDescriptor descriptor : descriptors) {
+      dispatch(descriptor.referencedBy().asArray());
+      descriptor.template().warmUp();
+    }
+    delegate.warmUp();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  /**
+   * Normalizes a servlet context path for use as the base path of the
+   * paths in the descriptor table.
+   * @param contextPath the subject context path
+   * @return {@code contextPath} with a leading slash and without a trailing
+   *    slash, or an empty string for the root context
+   */
+  private static String contextBasePath(String contextPath) {
+    if (contextPath == null) return "";
+    int end = contextPath.length();
+    while (end > 0 && contextPath.charAt(end - 1) == '/') {
+      end--;
+    }
+    if (end == 0) return "";
+    final String path = contextPath.substring(0, end);
+    return path.charAt(0) == '/' ? path : "/" + path;
+  }
+
+  /**
+   * Creates an entry for the descriptor table.
+   * @param resourceType type of the described resource
+   *    (e.g. {@code method})
+   * @param resourceName name of the described resource
+   * @param path resource path template, relative to the servlet context
+   * @param templateResolver path template resolver
+   * @param modelPath model path that references the resource
+   * @return descriptor table entry
+   */
+  protected static Entry entry(String resourceType, String resourceName,
+      String path, PathTemplateResolver templateResolver,
+      Class<?>... modelPath) {
+    return new Entry(resourceType, resourceName, path, templateResolver,
+        modelPath);
+  }
+
+  /**
+   * An entry in the descriptor table of a generated resolver.
+   */
+  protected static final class Entry {
+
+    private final String resourceType;
+    private final String resourceName;
+    private final String path;
+    private final PathTemplateResolver templateResolver;
+    private final Class<?>[] modelPath;
+
+    private Entry(String resourceType, String resourceName, String path,
+        PathTemplateResolver templateResolver, Class<?>[] modelPath) {
+      this.resourceType = resourceType;
+      this.resourceName = resourceName;
+      this.path = path;
+      this.templateResolver = templateResolver;
+      this.modelPath = modelPath;
+    }
+
+    ResourceDescriptor toDescriptor(String contextPath) {
+      if (contextPath.isEmpty()) {
+        return new PrecompiledResourceDescriptor(resourceType, resourceName,
+            path, ModelPath.with(modelPath), templateResolver);
+      }
+      final String qualifiedPath = path.startsWith("/") ?
+          contextPath + path : contextPath + "/" + path;
+      return new PrecompiledResourceDescriptor(resourceType, resourceName,
+          qualifiedPath, contextPath, ModelPath.with(modelPath),
+          templateResolver);
+    }
+
+  }
+
+}
@@ -18,7 +18,13 @@
  */
 package org.soulwing.jaxrs.href;
 
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import javax.ws.rs.Path;
 import javax.ws.rs.core.UriBuilder;
@@ -28,6 +34,17 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A concrete {@link ResourceDiscoveryService}.
+ * <p>
+ * Root resource types are introspected in name order, so that the
+ * descriptors added to the resolver (and the first configuration error
+ * reported) do not depend on the iteration order of the reflection
+ * service.  Types are normally introspected one at a time.  When
+ * configured with a parallelism greater than one, each root resource type
+ * is instead introspected by a separate task in a {@link ForkJoinPool},
+ * with each task collecting its descriptors locally.  The descriptors are
+ * then added to the resolver in root resource type name order, and if any
+ * tasks fail, the error reported is that of the first such type in the
+ * same order.
  *
  * @author Carl Harris
  */
@@ -36,13 +53,44 @@ class ReflectionResourceDiscoveryService implements ResourceDiscoveryService {
   private static final Logger logger = LoggerFactory.getLogger(
       ReflectionResourceDiscoveryService.class);
 
+  private static final Comparator<Class<?>> BY_NAME =
+      new Comparator<Class<?>>() {
+        @Override
+        public int compare(Class<?> a, Class<?> b) {
+          return a.getName().compareTo(b.getName());
+        }
+      };
+
   private final ResourceTypeIntrospector typeIntrospector;
+  private final int parallelism;
 
   /**
    * Constructs a new instance that will use the default type introspector.
    */
   ReflectionResourceDiscoveryService() {
-    this(new ReflectionResourceTypeIntrospector());
+    this(1);
+  }
+
+  /**
+   * Constructs a new instance that will use the default type introspector
+   * with the given parallelism.
+   * @param parallelism maximum number of root resource types to introspect
+   *    concurrently
+   */
+  ReflectionResourceDiscoveryService(int parallelism) {
+    this(parallelism, MemoizingResourceTypeIntrospector.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Constructs a new instance that will use the default type introspector
+   * with the given parallelism and maximum sub-resource depth.
+   * @param parallelism maximum number of root resource types to introspect
+   *    concurrently
+   * @param maxDepth maximum number of types in a chain from a root resource
+   *    type through its sub-resource types
+   */
+  ReflectionResourceDiscoveryService(int parallelism, int maxDepth) {
+    this(new MemoizingResourceTypeIntrospector(maxDepth), parallelism);
   }
 
   /**
@@ -50,7 +98,20 @@ class ReflectionResourceDiscoveryService implements ResourceDiscoveryService {
    * @param typeIntrospector type introspector
    */
   ReflectionResourceDiscoveryService(ResourceTypeIntrospector typeIntrospector) {
+    this(typeIntrospector, 1);
+  }
+
+  /**
+   * Constructs a new instance that will use the given type introspector
+   * with the given parallelism.
+   * @param typeIntrospector type introspector
+   * @param parallelism maximum number of root resource types to introspect
+   *    concurrently
+   */
+  ReflectionResourceDiscoveryService(ResourceTypeIntrospector typeIntrospector,
+      int parallelism) {
     this.typeIntrospector = typeIntrospector;
+    this.parallelism = parallelism;
   }
 
   @Override
@@ -60,29 +121,156 @@ class ReflectionResourceDiscoveryService implements ResourceDiscoveryService {
       throws ResourceConfigurationException {
 
     logger.debug("resource discovery started");
+    final String basePath = basePath(applicationPath);
     final ModelPath modelPath = ModelPath.with();
-    final Set<Class<?>> rootResourceTypes =
-        reflectionService.getTypesAnnotatedWith(Path.class);
+    final List<Class<?>> rootResourceTypes = new ArrayList<>(
+        reflectionService.getTypesAnnotatedWith(Path.class));
+    Collections.sort(rootResourceTypes, BY_NAME);
+
+    if (parallelism > 1 && rootResourceTypes.size() > 1) {
+      describeInParallel(rootResourceTypes, applicationPath, basePath,
+          modelPath, reflectionService, resolver);
+    }
+    else {
+      final DescriptorSink sink = withBasePath(resolver, basePath);
+      for (Class<?> rootResourceType : rootResourceTypes) {
+        describe(rootResourceType, applicationPath, modelPath,
+            reflectionService, sink);
+      }
+    }
+
+    final FlightRecording recording =
+        FlightRecorderEvents.beginValidate(applicationPath);
+    try {
+      resolver.validate();
+    }
+    finally {
+      recording.complete();
+    }
+    logger.debug("resource discovery completed");
+  }
+
+  /**
+   * Introspects a single root resource type.
+   * @param rootResourceType the root resource type
+   * @param applicationPath the context-qualified JAX-RS application path
+   * @param reflectionService reflection service
+   * @param resolver resolver to which descriptors will be added; the
+   *    path templates of the descriptors share its base path
+   * @throws ResourceConfigurationException if a configuration error is
+   *    discovered
+   */
+  void describeRoot(Class<?> rootResourceType, String applicationPath,
+      ReflectionService reflectionService,
+      DescriptorSink resolver)
+      throws ResourceConfigurationException {
+    describe(rootResourceType, applicationPath, ModelPath.with(),
+        reflectionService, resolver);
+  }
 
-    for (Class<?> rootResourceType : rootResourceTypes) {
-      final Path path = reflectionService.getAnnotation(rootResourceType,
-          Path.class);
+  private void describe(Class<?> rootResourceType, String applicationPath,
+      ModelPath modelPath, ReflectionService reflectionService,
+      DescriptorSink resolver)
+      throws ResourceConfigurationException {
+    final Path path = reflectionService.getAnnotation(rootResourceType,
+        Path.class);
 
-      final String qualifiedPath = UriBuilder.fromPath(applicationPath)
-          .path(path.value()).toTemplate();
+    final String qualifiedPath = UriBuilder.fromPath(applicationPath)
+        .path(path.value()).toTemplate();
 
-      logger.trace("discovered root resource {}",
-          rootResourceType.getSimpleName());
+    logger.trace("discovered root resource {}",
+        rootResourceType.getSimpleName());
 
-      TemplateResolver templateResolver = reflectionService.getAnnotation(
-          rootResourceType, TemplateResolver.class);
+    TemplateResolver templateResolver = reflectionService.getAnnotation(
+        rootResourceType, TemplateResolver.class);
 
+    final FlightRecording recording =
+        FlightRecorderEvents.beginIntrospect(rootResourceType, qualifiedPath);
+    try {
       typeIntrospector.describe(rootResourceType, qualifiedPath, modelPath,
           templateResolver, reflectionService, resolver);
     }
+    finally {
+      recording.complete();
+    }
+  }
 
-    resolver.validate();
-    logger.debug("resource discovery completed");
+  /**
+   * Gets the base path shared by the templates of an application.
+   * @param applicationPath the context-qualified JAX-RS application path
+   * @return {@code applicationPath} in the form in which it begins each
+   *    resource path
+   */
+  static String basePath(String applicationPath) {
+    return UriBuilder.fromPath(applicationPath).toTemplate();
+  }
+
+  /**
+   * Creates a sink that adds descriptors to the given sink, and whose
+   * descriptors share the given base path.
+   * @param sink the target sink
+   * @param basePath the base path to share
+   * @return sink
+   */
+  private static DescriptorSink withBasePath(final DescriptorSink sink,
+      final String basePath) {
+    return new DescriptorSink() {
+      @Override
+      public String basePath() {
+        return basePath;
+      }
+
+      @Override
+      public void addDescriptor(ResourceDescriptor descriptor) {
+        sink.addDescriptor(descriptor);
+      }
+    };
+  }
+
+  private void describeInParallel(final List<Class<?>> types,
+      final String applicationPath, final String basePath,
+      final ModelPath modelPath,
+      final ReflectionService reflectionService,
+      DescriptorSink resolver)
+      throws ResourceConfigurationException {
+
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      final List<ForkJoinTask<List<ResourceDescriptor>>> tasks =
+          new ArrayList<>(types.size());
+      for (final Class<?> type : types) {
+        tasks.add(pool.submit(new Callable<List<ResourceDescriptor>>() {
+          @Override
+          public List<ResourceDescriptor> call() {
+            final DescriptorCollector collector =
+                new DescriptorCollector(basePath);
+            describe(type, applicationPath, modelPath, reflectionService,
+                collector);
+            return collector.descriptors();
+          }
+        }));
+      }
+
+      RuntimeException error = null;
+      for (ForkJoinTask<List<ResourceDescriptor>> task : tasks) {
+        try {
+          final List<ResourceDescriptor> descriptors = task.join();
+          if (error != null) continue;
+          for (ResourceDescriptor descriptor : descriptors) {
+            resolver.addDescriptor(descriptor);
+          }
+        }
+        catch (RuntimeException ex) {
+          if (error == null) {
+            error = ex;
+          }
+        }
+      }
+      if (error != null) throw error;
+    }
+    finally {
+      pool.shutdown();
+    }
   }
 
 }
@@ -70,7 +70,7 @@ class ReflectionResourceMethodIntrospector
       TemplateResolver templateResolver,
       ReflectionService reflectionService,
       ResourceTypeIntrospector typeIntrospector,
-      ConfigurableResourcePathResolver resolver)
+      DescriptorSink resolver)
       throws ResourceConfigurationException {
 
     final Path path = reflectionService.getAnnotation(method, Path.class);
@@ -113,7 +113,8 @@ class ReflectionResourceMethodIntrospector
           .newResolver(templateResolver.value());
 
       resolver.addDescriptor(descriptorFactory.newDescriptor(method,
-          resourcePath, modelPath, pathTemplateResolver));
+          resourcePath, resolver.basePath(), modelPath,
+          pathTemplateResolver));
 
       return;
     }
@@ -122,6 +123,7 @@ class ReflectionResourceMethodIntrospector
     if (reflectionService.isAbstractType(returnType)) {
       if (referencedBy == null) return;
 
+      SubtreeCollector.markPositionDependent(resolver);
       returnType = findMatchingSubResourceType(modelPath.concat(referencedBy),
           reflectionService, method);
     }
@@ -152,7 +154,7 @@ class ReflectionResourceMethodIntrospector
    * @return {@code true} if {@code method} has at least one HTTP method
    *    annotation
    */
-  private boolean isResourceMethod(Method method,
+  static boolean isResourceMethod(Method method,
       ReflectionService reflector) {
     if (reflector.getAnnotation(method, GET.class) != null) return true;
     if (reflector.getAnnotation(method, POST.class) != null) return true;
@@ -35,6 +35,7 @@ class ReflectionResourceTypeIntrospector implements ResourceTypeIntrospector {
 
   private final ResourceDescriptorFactory descriptorFactory;
   private final ResourceMethodIntrospector methodIntrospector;
+  private final ResourceTypeIntrospector subResourceIntrospector;
 
   ReflectionResourceTypeIntrospector() {
     this(new SimpleResourceDescriptorFactory(),
@@ -44,15 +45,32 @@ class ReflectionResourceTypeIntrospector implements ResourceTypeIntrospector {
   ReflectionResourceTypeIntrospector(
       ResourceDescriptorFactory descriptorFactory,
       ResourceMethodIntrospector methodIntrospector) {
+    this(descriptorFactory, methodIntrospector, null);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param descriptorFactory descriptor factory
+   * @param methodIntrospector method introspector
+   * @param subResourceIntrospector introspector to use for the types
+   *    returned by sub-resource locators; if {@code null} this introspector
+   *    is used
+   */
+  ReflectionResourceTypeIntrospector(
+      ResourceDescriptorFactory descriptorFactory,
+      ResourceMethodIntrospector methodIntrospector,
+      ResourceTypeIntrospector subResourceIntrospector) {
     this.descriptorFactory = descriptorFactory;
     this.methodIntrospector = methodIntrospector;
+    this.subResourceIntrospector = subResourceIntrospector != null ?
+        subResourceIntrospector : this;
   }
 
   @Override
   public void describe(Class<?> type, String resourcePath, ModelPath modelPath,
       TemplateResolver templateResolver,
       ReflectionService reflectionService,
-      ConfigurableResourcePathResolver resolver)
+      DescriptorSink resolver)
       throws ResourceConfigurationException {
 
     if (reflectionService.isAbstractType(type)) {
@@ -78,14 +96,16 @@ class ReflectionResourceTypeIntrospector implements ResourceTypeIntrospector {
             TemplateResolverUtils.newResolver(templateResolver.value());
 
         resolver.addDescriptor(descriptorFactory.newDescriptor(type,
-            resourcePath, modelPath, pathTemplateResolver));
+            resourcePath, resolver.basePath(), modelPath,
+            pathTemplateResolver));
       }
     }
 
     for (Method method : reflectionService.getMethods(type)) {
       if (!reflectionService.getReturnType(method).equals(void.class)) {
         methodIntrospector.describe(method, resourcePath, modelPath,
-            templateResolver, reflectionService, this, resolver);
+            templateResolver, reflectionService, subResourceIntrospector,
+            resolver);
       }
     }
 
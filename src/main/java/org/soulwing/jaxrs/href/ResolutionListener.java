@@ -0,0 +1,121 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.List;
+
+/**
+ * A listener that is notified of the steps taken by a resolver in matching
+ * a model path to a resource.
+ * <p>
+ * A model path is supplied as the array of model types given to the
+ * resolver, and must not be modified by the listener.
+ * <p>
+ * Each method has a default implementation that does nothing, so that an
+ * implementation need only override the notifications of interest.  A
+ * listener is invoked on the resolving thread, and must be safe for use
+ * by concurrent threads.
+ *
+ * @author Carl Harris
+ * @see LoggingResolutionListener
+ */
+public interface ResolutionListener {
+
+  /**
+   * The basis on which a resource was chosen from the candidates.
+   */
+  enum Basis {
+    /** The resource was the only candidate. */
+    SINGULAR,
+    /** The model path of the resource is equal to the resolved path. */
+    EXACT,
+    /** The resource has the longest and most specific model path. */
+    BEST
+  }
+
+  /**
+   * A listener that ignores all notifications.
+   */
+  ResolutionListener NONE = new ResolutionListener() {
+  };
+
+  /**
+   * Notifies this listener that a resource matches a model path that is
+   * being resolved.
+   * @param modelPath the model path being resolved
+   * @param resource a matching resource
+   */
+  default void candidateFound(Class<?>[] modelPath,
+      ResolvedResource resource) {
+  }
+
+  /**
+   * Notifies this listener that a matching resource has a model path of
+   * the greatest length among the candidates for a model path, when there
+   * is more than one candidate and none is an exact match.
+   * @param modelPath the model path being resolved
+   * @param resource a matching resource whose model path is the longest
+   */
+  default void longestMatchFound(Class<?>[] modelPath,
+      ResolvedResource resource) {
+  }
+
+  /**
+   * Notifies this listener that a resource remains a best match for a
+   * model path after comparing the elements of the longest candidates at
+   * a given position.
+   * @param step the position of the compared model path element
+   * @param modelPath the model path being resolved
+   * @param resource a resource that remains a best match
+   */
+  default void bestMatchFoundAtStep(int step, Class<?>[] modelPath,
+      ResolvedResource resource) {
+  }
+
+  /**
+   * Notifies this listener that a resource has been chosen for a model
+   * path.
+   * @param modelPath the model path being resolved
+   * @param resource the chosen resource
+   * @param basis the basis on which {@code resource} was chosen
+   * @param candidateCount the number of matching resources
+   */
+  default void winnerChosen(Class<?>[] modelPath, ResolvedResource resource,
+      Basis basis, int candidateCount) {
+  }
+
+  /**
+   * Notifies this listener that no resource matches a model path.
+   * @param modelPath the model path being resolved
+   */
+  default void missed(Class<?>[] modelPath) {
+  }
+
+  /**
+   * Notifies this listener that more than one resource is an equally good
+   * match for a model path, so that the resolution fails with an
+   * {@link AmbiguousPathResolutionException}.
+   * @param modelPath the model path being resolved
+   * @param resources the resources that match equally well
+   */
+  default void ambiguous(Class<?>[] modelPath,
+      List<? extends ResolvedResource> resources) {
+  }
+
+}
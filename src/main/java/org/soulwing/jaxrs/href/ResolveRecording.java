@@ -0,0 +1,53 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A resolution that may be recorded as a Java Flight Recorder event.
+ *
+ * @author Carl Harris
+ */
+interface ResolveRecording extends FlightRecording {
+
+  /**
+   * A recording that records nothing.
+   */
+  ResolveRecording NONE = new ResolveRecording() {
+    @Override
+    public void matched(ModelPath modelPath, int candidateCount,
+        ResourceDescriptor descriptor) {
+    }
+
+    @Override
+    public void complete() {
+    }
+  };
+
+  /**
+   * Notes the outcome of matching a model path to a descriptor.
+   * @param modelPath the model path that was resolved
+   * @param candidateCount number of descriptors that matched
+   *    {@code modelPath}
+   * @param descriptor the descriptor chosen, or {@code null} if none could
+   *    be chosen
+   */
+  void matched(ModelPath modelPath, int candidateCount,
+      ResourceDescriptor descriptor);
+
+}
@@ -0,0 +1,61 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A read-only view of a resource to which a model path may be resolved.
+ * <p>
+ * Instances are supplied to a {@link ResolutionListener}, and are valid
+ * only for the duration of a notification.
+ *
+ * @author Carl Harris
+ */
+public interface ResolvedResource {
+
+  /**
+   * Gets the path template of this resource, which begins with the
+   * deployment context path and JAX-RS application path.
+   * @return resource path template
+   */
+  String path();
+
+  /**
+   * Gets the model path identified in the {@link ReferencedBy} annotations
+   * of this resource.
+   * @return a new array of model types, which may include {@link AnyModel}
+   *    and {@link AnyModelSequence} wildcards
+   */
+  Class<?>[] modelPath();
+
+  /**
+   * Gets the kind of this resource.
+   * @return {@code method} for a resource method, or {@code type} for a
+   *    resource type
+   */
+  String resourceType();
+
+  /**
+   * Gets the name of this resource.
+   * @return the simple name of the resource type, or for a resource method,
+   *    the simple name of its declaring type and the method name separated
+   *    by a period
+   */
+  String resourceName();
+
+}
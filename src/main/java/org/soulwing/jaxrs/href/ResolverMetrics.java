@@ -0,0 +1,269 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime metrics for a {@link ResourcePathResolver}.
+ * <p>
+ * Every counter is a {@link LongAdder} and latencies are recorded in a
+ * {@link LatencyHistogram}, so that recording metrics does not become a
+ * point of contention between resolving threads.  At most
+ * {@value #MAX_TRACKED_MODEL_PATHS} distinct model paths are counted;
+ * resolutions of any further model paths are counted only in the totals.
+ * Model paths are counted in an open-addressed table keyed on the contents
+ * of the resolved model type array, so that counting a resolution of a
+ * model path that has been seen before allocates nothing.
+ *
+ * @author Carl Harris
+ */
+class ResolverMetrics implements ResourcePathResolverMetricsMXBean {
+
+  static final int MAX_TRACKED_MODEL_PATHS = 10000;
+
+  static final int DEFAULT_TOP_MODEL_PATHS = 10;
+
+  private final LongAdder resolves = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder ambiguities = new LongAdder();
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private volatile ModelPathCounts modelPathCounts = new ModelPathCounts();
+
+  private final ExpandedPathCache pathCache;
+  private final int topModelPaths;
+
+  /**
+   * Constructs a new instance.
+   * @param pathCache path cache of the subject resolver (may be
+   *    {@code null})
+   * @param topModelPaths number of model paths to report in
+   *    {@link #getTopModelPaths()}
+   */
+  ResolverMetrics(ExpandedPathCache pathCache, int topModelPaths) {
+    this.pathCache = pathCache;
+    this.topModelPaths = topModelPaths;
+  }
+
+  /**
+   * Records a resolution.
+   * @param modelTypes the resolved model path
+   * @param nanos latency of the resolution
+   */
+  void resolved(Class<?>[] modelTypes, long nanos) {
+    resolves.increment();
+    latency.record(nanos);
+    modelPathCounts.increment(modelTypes);
+  }
+
+  /**
+   * Records a resolution that failed because no resource was found.
+   */
+  void missed() {
+    misses.increment();
+  }
+
+  /**
+   * Records a resolution that failed because it was ambiguous.
+   */
+  void ambiguous() {
+    ambiguities.increment();
+  }
+
+  @Override
+  public long getResolveCount() {
+    return resolves.sum();
+  }
+
+  @Override
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public long getAmbiguityCount() {
+    return ambiguities.sum();
+  }
+
+  @Override
+  public long getPathCacheHitCount() {
+    return pathCache != null ? pathCache.hitCount() : 0;
+  }
+
+  @Override
+  public long getPathCacheMissCount() {
+    return pathCache != null ? pathCache.missCount() : 0;
+  }
+
+  @Override
+  public double getPathCacheHitRatio() {
+    final long hits = getPathCacheHitCount();
+    final long total = hits + getPathCacheMissCount();
+    return total > 0 ? (double) hits / total : 0;
+  }
+
+  @Override
+  public long getLatency50thPercentile() {
+    return latency.percentile(50);
+  }
+
+  @Override
+  public long getLatency90thPercentile() {
+    return latency.percentile(90);
+  }
+
+  @Override
+  public long getLatency99thPercentile() {
+    return latency.percentile(99);
+  }
+
+  @Override
+  public long getLatency999thPercentile() {
+    return latency.percentile(99.9);
+  }
+
+  @Override
+  public long getLatencyMax() {
+    return latency.max();
+  }
+
+  @Override
+  public List<String> getTopModelPaths() {
+    final List<Map.Entry<ModelPath, Long>> entries =
+        modelPathCounts.entries();
+    Collections.sort(entries, new Comparator<Map.Entry<ModelPath, Long>>() {
+      @Override
+      public int compare(Map.Entry<ModelPath, Long> a,
+          Map.Entry<ModelPath, Long> b) {
+        return Long.compare(b.getValue(), a.getValue());
+      }
+    });
+    final List<String> top = new ArrayList<>(topModelPaths);
+    for (Map.Entry<ModelPath, Long> entry : entries) {
+      if (top.size() == topModelPaths) break;
+      top.add(entry.getKey() + "=" + entry.getValue());
+    }
+    return top;
+  }
+
+  @Override
+  public void reset() {
+    resolves.reset();
+    misses.reset();
+    ambiguities.reset();
+    latency.reset();
+    modelPathCounts = new ModelPathCounts();
+  }
+
+  /**
+   * A bounded, insert-only hash table of resolution counts keyed on the
+   * contents of model type arrays.
+   * <p>
+   * The table is sized so that it never needs to grow: once
+   * {@value #MAX_TRACKED_MODEL_PATHS} model paths are present, further
+   * model paths are not inserted.  A slot, once filled, is never changed,
+   * so a lookup needs no locking.
+   */
+  private static class ModelPathCounts {
+
+    private static final int CAPACITY =
+        Integer.highestOneBit(MAX_TRACKED_MODEL_PATHS - 1) << 1;
+
+    private final AtomicReferenceArray<Slot> slots =
+        new AtomicReferenceArray<>(CAPACITY);
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    void increment(Class<?>[] modelTypes) {
+      final int hash = hash(modelTypes);
+      int index = hash & (CAPACITY - 1);
+      while (true) {
+        Slot slot = slots.get(index);
+        if (slot == null) {
+          if (size.get() >= MAX_TRACKED_MODEL_PATHS) return;
+          final Slot newSlot = new Slot(modelTypes.clone(), hash);
+          if (slots.compareAndSet(index, null, newSlot)) {
+            size.incrementAndGet();
+            newSlot.count.increment();
+            return;
+          }
+          slot = slots.get(index);
+        }
+        if (slot.hash == hash && slot.matches(modelTypes)) {
+          slot.count.increment();
+          return;
+        }
+        index = (index + 1) & (CAPACITY - 1);
+      }
+    }
+
+    List<Map.Entry<ModelPath, Long>> entries() {
+      final List<Map.Entry<ModelPath, Long>> entries = new ArrayList<>();
+      for (int i = 0; i < CAPACITY; i++) {
+        final Slot slot = slots.get(i);
+        if (slot == null) continue;
+        entries.add(new AbstractMap.SimpleImmutableEntry<>(
+            ModelPath.with(slot.modelTypes), slot.count.sum()));
+      }
+      return entries;
+    }
+
+    private static int hash(Class<?>[] modelTypes) {
+      int hash = 1;
+      for (Class<?> modelType : modelTypes) {
+        hash = 31 * hash + System.identityHashCode(modelType);
+      }
+      return hash ^ (hash >>> 16);
+    }
+
+  }
+
+  /**
+   * A slot of the {@link ModelPathCounts} table.
+   */
+  private static class Slot {
+
+    final Class<?>[] modelTypes;
+    final int hash;
+    final LongAdder count = new LongAdder();
+
+    Slot(Class<?>[] modelTypes, int hash) {
+      this.modelTypes = modelTypes;
+      this.hash = hash;
+    }
+
+    boolean matches(Class<?>[] modelTypes) {
+      if (this.modelTypes.length != modelTypes.length) return false;
+      for (int i = 0; i < modelTypes.length; i++) {
+        if (this.modelTypes[i] != modelTypes[i]) return false;
+      }
+      return true;
+    }
+
+  }
+
+}
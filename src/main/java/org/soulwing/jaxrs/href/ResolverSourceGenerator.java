@@ -0,0 +1,312 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A build-time generator for the Java source of a
+ * {@link PrecompiledResourcePathResolver}.
+ * <p>
+ * The generator discovers resources in the same manner as a
+ * {@link ResourcePathResolverFactory} and writes a resolver class whose
+ * descriptor table and dispatch method embody the result, so that the
+ * resolver can be created at runtime without class path scanning or
+ * reflection.  This is useful for fast-starting deployments and for
+ * ahead-of-time (native image) compilation.
+ * <p>
+ * The {@link #main(String[])} method is intended to be run after the
+ * resource classes have been compiled (e.g. using the {@code exec} plugin
+ * in the {@code process-classes} phase of a Maven build), with the compiled
+ * classes and their {@link ResourceIndex} on the class path.  The generated
+ * source must then be compiled in a subsequent step.
+ * <p>
+ * The paths in the generated class are relative to the servlet context.
+ * The context path is supplied at runtime, when the generated class is
+ * constructed (e.g. {@code new MyResolver(servletContext.getContextPath())}),
+ * so the same generated class can be deployed at any context path.
+ *
+ * @author Carl Harris
+ */
+public class ResolverSourceGenerator {
+
+  private static final String INDENT = "  ";
+
+  private final String packageName;
+  private final String simpleName;
+
+  /**
+   * Constructs a new instance.
+   * @param className fully-qualified name of the class to generate
+   */
+  public ResolverSourceGenerator(String className) {
+    final int i = className.lastIndexOf('.');
+    this.packageName = i != -1 ? className.substring(0, i) : null;
+    this.simpleName = className.substring(i + 1);
+  }
+
+  /**
+   * Generates a resolver class using the resource index visible to the
+   * context class loader.
+   * <p>
+   * Arguments are the output source directory, the fully-qualified name of
+   * the class to generate, and the JAX-RS application path (relative to the
+   * servlet context).
+   * @param args command line arguments
+   * @throws Exception if an error occurs in generating the class
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length != 3) {
+      System.err.println("usage: " + ResolverSourceGenerator.class.getName()
+          + " <output-directory> <class-name> <application-path>");
+      System.exit(1);
+    }
+    final ClassLoader classLoader =
+        Thread.currentThread().getContextClassLoader();
+    final ResourceIndex index = ResourceIndex.load(classLoader);
+    if (index == null) {
+      throw new ResourceConfigurationException("no resource index ("
+          + ResourceIndex.RESOURCE_NAME + ") found on the class path");
+    }
+    final List<Class<?>> types = new ArrayList<>();
+    for (String typeName : index.typeNames()) {
+      types.add(Class.forName(typeName, false, classLoader));
+    }
+    final File file = new File(args[0], args[1].replace('.', '/') + ".java");
+    final File directory = file.getParentFile();
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("cannot create directory " + directory);
+    }
+    try (Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+        StandardCharsets.UTF_8)) {
+      new ResolverSourceGenerator(args[1]).generate(args[2],
+          new ClassSetReflectionService(types), writer);
+    }
+  }
+
+  /**
+   * Discovers resources and writes the source of a resolver class for them.
+   * @param applicationPath the JAX-RS application path, relative to the
+   *    servlet context
+   * @param reflectionService reflection service to use for discovery
+   * @param writer writer to which the source will be written
+   * @throws ResourceConfigurationException if a configuration error is
+   *    discovered
+   * @throws IOException if an error occurs in writing the source
+   */
+  public void generate(String applicationPath,
+      ReflectionService reflectionService, Writer writer)
+      throws ResourceConfigurationException, IOException {
+    final SimpleResourcePathResolver resolver =
+        new SimpleResourcePathResolver();
+    new ReflectionResourceDiscoveryService().discoverResources(
+        applicationPath, new CachingReflectionService(reflectionService),
+        resolver);
+    final PrintWriter out = new PrintWriter(writer);
+    writeClass(sortedDescriptors(resolver), out);
+    out.flush();
+    if (out.checkError()) {
+      throw new IOException("error writing generated source");
+    }
+  }
+
+  /**
+   * Sorts the descriptors of a resolver, so that the generated source does
+   * not vary from one build to the next.
+   * @param resolver the subject resolver
+   * @return sorted list of descriptors
+   */
+  private List<AbstractResourceDescriptor> sortedDescriptors(
+      SimpleResourcePathResolver resolver) {
+    final List<AbstractResourceDescriptor> descriptors = new ArrayList<>();
+    for (ResourceDescriptor descriptor : resolver.descriptors()) {
+      descriptors.add((AbstractResourceDescriptor) descriptor);
+    }
+    Collections.sort(descriptors, new Comparator<ResourceDescriptor>() {
+      @Override
+      public int compare(ResourceDescriptor a, ResourceDescriptor b) {
+        final int result = a.path().compareTo(b.path());
+        return result != 0 ? result : a.referencedBy().toString().compareTo(
+            b.referencedBy().toString());
+      }
+    });
+    return descriptors;
+  }
+
+  private void writeClass(List<AbstractResourceDescriptor> descriptors,
+      PrintWriter out) {
+    if (packageName != null) {
+      out.println("package " + packageName + ";");
+      out.println();
+    }
+    out.println("/**");
+    out.println(" * A resource path resolver generated by "
+        + ResolverSourceGenerator.class.getSimpleName() + ".");
+    out.println(" * <p>");
+    out.println(" * Paths are relative to the servlet context; construct with the");
+    out.println(" * context path of the application to qualify them.");
+    out.println(" * <p>");
+    out.println(" * Do not edit; this class is regenerated at build time.");
+    out.println(" */");
+    out.println("public final class " + simpleName);
+    out.println(INDENT + INDENT + "extends "
+        + PrecompiledResourcePathResolver.class.getName() + " {");
+    out.println();
+    writeConstructor(descriptors, out);
+    out.println();
+    writeDispatch(descriptors, out);
+    out.println();
+    out.println("}");
+  }
+
+  private void writeConstructor(List<AbstractResourceDescriptor> descriptors,
+      PrintWriter out) {
+    out.println(INDENT + "public " + simpleName + "() {");
+    out.println(INDENT + INDENT + "this(\"\");");
+    out.println(INDENT + "}");
+    out.println();
+    out.println(INDENT + "public " + simpleName + "(String contextPath) {");
+    out.println(INDENT + INDENT + "super(contextPath"
+        + (descriptors.isEmpty() ? "" : ","));
+    for (int i = 0, max = descriptors.size(); i < max; i++) {
+      final AbstractResourceDescriptor descriptor = descriptors.get(i);
+      final StringBuilder sb = new StringBuilder();
+      sb.append("entry(");
+      sb.append(literal(descriptor.resourceType())).append(", ");
+      sb.append(literal(descriptor.resourceName())).append(", ");
+      sb.append(literal(descriptor.path())).append(", ");
+      sb.append("new ").append(typeName(descriptor.templateResolver()
+          .getClass())).append("()");
+      for (Class<?> modelType : descriptor.referencedBy().asList()) {
+        sb.append(", ").append(typeName(modelType)).append(".class");
+      }
+      sb.append(i < max - 1 ? ")," : ")");
+      out.println(INDENT + INDENT + INDENT + sb);
+    }
+    out.println(INDENT + INDENT + ");");
+    out.println(INDENT + "}");
+  }
+
+  /**
+   * Writes the dispatch method, which maps each model path that exactly
+   * matches the model path of a descriptor to the index of that descriptor.
+   * <p>
+   * An exact match is always the best match, so model paths that are
+   * matched only by wildcard model paths are left to the resolver to match
+   * at runtime.
+   * @param descriptors sorted descriptors
+   * @param out writer for the generated source
+   */
+  private void writeDispatch(List<AbstractResourceDescriptor> descriptors,
+      PrintWriter out) {
+    final Map<Integer, List<Integer>> byLength = new TreeMap<>();
+    for (int i = 0; i < descriptors.size(); i++) {
+      final ModelPath modelPath = descriptors.get(i).referencedBy();
+      if (isExact(modelPath)) {
+        List<Integer> indexes = byLength.get(modelPath.length());
+        if (indexes == null) {
+          indexes = new ArrayList<>();
+          byLength.put(modelPath.length(), indexes);
+        }
+        indexes.add(i);
+      }
+    }
+
+    final String indent3 = INDENT + INDENT + INDENT;
+    out.println(INDENT + "@Override");
+    out.println(INDENT + "protected int dispatch(Class<?>[] modelTypes) {");
+    out.println(INDENT + INDENT + "switch (modelTypes.length) {");
+    for (Map.Entry<Integer, List<Integer>> entry : byLength.entrySet()) {
+      out.println(indent3 + "case " + entry.getKey() + ":");
+      for (int index : entry.getValue()) {
+        out.println(indent3 + INDENT + "if ("
+            + condition(descriptors.get(index).referencedBy())
+            + ") return " + index + ";");
+      }
+      out.println(indent3 + INDENT + "break;");
+    }
+    out.println(indent3 + "default:");
+    out.println(indent3 + INDENT + "break;");
+    out.println(INDENT + INDENT + "}");
+    out.println(INDENT + INDENT + "return -1;");
+    out.println(INDENT + "}");
+  }
+
+  private static String condition(ModelPath modelPath) {
+    if (modelPath.length() == 0) return "true";
+    final StringBuilder sb = new StringBuilder();
+    final List<Class<?>> modelTypes = modelPath.asList();
+    for (int i = 0; i < modelTypes.size(); i++) {
+      if (i > 0) sb.append(" && ");
+      sb.append("modelTypes[").append(i).append("] == ")
+          .append(typeName(modelTypes.get(i))).append(".class");
+    }
+    return sb.toString();
+  }
+
+  private static boolean isExact(ModelPath modelPath) {
+    for (int i = 0, max = modelPath.length(); i < max; i++) {
+      if (modelPath.matchTypeAt(i) != ModelPath.MatchType.EXACT) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String typeName(Class<?> type) {
+    final String name = type.getCanonicalName();
+    if (name == null) {
+      throw new ResourceConfigurationException("type " + type.getName()
+          + " cannot be referenced by name in generated source");
+    }
+    return name;
+  }
+
+  private static String literal(String s) {
+    final StringBuilder sb = new StringBuilder(s.length() + 2);
+    sb.append('"');
+    for (int i = 0, max = s.length(); i < max; i++) {
+      final char c = s.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      }
+      else if (c < 0x20 || c > 0x7e) {
+        sb.append(String.format("\\u%04x", (int) c));
+      }
+      else {
+        sb.append(c);
+      }
+    }
+    sb.append('"');
+    return sb.toString();
+  }
+
+}
@@ -26,14 +26,7 @@ import java.util.List;
  *
  * @author Carl Harris
  */
-interface ResourceDescriptor {
-
-  /**
-   * Gets the path to this resource method relative to the deployment context
-   * path and JAX-RS application path.
-   * @return resource path template
-   */
-  String path();
+interface ResourceDescriptor extends ResolvedResource {
 
   /**
    * Gets the model path identified in a {@link ReferencedBy} annotation on
@@ -65,5 +58,18 @@ interface ResourceDescriptor {
    *    {@link TemplateResolver} annotation on the described resource method
    */
   PathTemplateResolver templateResolver();
-  
+
+  /**
+   * Gets the compiled form of the path template for this resource.
+   * @return compiled path template
+   */
+  PathTemplate template();
+
+  /**
+   * Gets the binding plan for the path template of this resource.
+   * @return binding plan or {@code null} if the template resolver for
+   *    this resource is not a {@link BindingPathTemplateResolver}
+   */
+  BindingPlan bindingPlan();
+
 }
@@ -28,9 +28,11 @@ import java.lang.reflect.Method;
 interface ResourceDescriptorFactory {
 
   ResourceDescriptor newDescriptor(Class<?> type, String resourcePath,
-      ModelPath modelPath, PathTemplateResolver templateResolver);
+      String basePath, ModelPath modelPath,
+      PathTemplateResolver templateResolver);
 
   ResourceDescriptor newDescriptor(Method method, String resourcePath,
-      ModelPath modelPath, PathTemplateResolver templateResolver);
+      String basePath, ModelPath modelPath,
+      PathTemplateResolver templateResolver);
 
 }
@@ -0,0 +1,134 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * An index of the types that are candidates for resource discovery,
+ * produced at build time by {@link ResourceIndexProcessor}.
+ * <p>
+ * The index is a UTF-8 text resource named {@value #RESOURCE_NAME}
+ * containing the binary name of each candidate type on a line by itself.
+ * Each JAR (or classes directory) may contain its own index.
+ *
+ * @author Carl Harris
+ */
+class ResourceIndex {
+
+  /** Name of the index resource */
+  static final String RESOURCE_NAME = "META-INF/jax-rs-href/resources";
+
+  private final Set<String> typeNames;
+
+  private ResourceIndex(Set<String> typeNames) {
+    this.typeNames = typeNames;
+  }
+
+  /**
+   * Creates an index with the given type names.
+   * @param typeNames binary names of the indexed types
+   * @return resource index
+   */
+  static ResourceIndex with(Collection<String> typeNames) {
+    return new ResourceIndex(new LinkedHashSet<>(typeNames));
+  }
+
+  /**
+   * Loads and merges every index visible to the given class loader.
+   * @param classLoader the class loader to use to locate index resources
+   * @return merged index or {@code null} if no index resource was found
+   * @throws ResourceConfigurationException if an index resource cannot
+   *    be read
+   */
+  static ResourceIndex load(ClassLoader classLoader)
+      throws ResourceConfigurationException {
+    final Set<String> typeNames = new LinkedHashSet<>();
+    boolean found = false;
+    try {
+      final Enumeration<URL> urls = classLoader.getResources(RESOURCE_NAME);
+      while (urls.hasMoreElements()) {
+        final URL url = urls.nextElement();
+        try (InputStream inputStream = url.openStream()) {
+          typeNames.addAll(read(new InputStreamReader(inputStream,
+              StandardCharsets.UTF_8)).typeNames);
+        }
+        found = true;
+      }
+    }
+    catch (IOException ex) {
+      throw new ResourceConfigurationException(
+          "failed to read resource index: " + ex);
+    }
+    return found ? new ResourceIndex(typeNames) : null;
+  }
+
+  /**
+   * Reads an index.
+   * @param reader reader positioned at the start of the index
+   * @return resource index
+   * @throws IOException if an error occurs in reading the index
+   */
+  static ResourceIndex read(Reader reader) throws IOException {
+    final Set<String> typeNames = new LinkedHashSet<>();
+    final BufferedReader bufferedReader = new BufferedReader(reader);
+    String line = bufferedReader.readLine();
+    while (line != null) {
+      line = line.trim();
+      if (!line.isEmpty() && !line.startsWith("#")) {
+        typeNames.add(line);
+      }
+      line = bufferedReader.readLine();
+    }
+    return new ResourceIndex(typeNames);
+  }
+
+  /**
+   * Writes this index.
+   * @param writer the writer to which the index will be written
+   * @throws IOException if an error occurs in writing the index
+   */
+  void write(Writer writer) throws IOException {
+    for (String typeName : typeNames) {
+      writer.write(typeName);
+      writer.write('\n');
+    }
+    writer.flush();
+  }
+
+  /**
+   * Gets the names of the indexed types.
+   * @return set of binary type names
+   */
+  Set<String> typeNames() {
+    return typeNames;
+  }
+
+}
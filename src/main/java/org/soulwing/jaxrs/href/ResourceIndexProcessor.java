@@ -0,0 +1,135 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor that produces a {@link ResourceIndex} at build
+ * time.
+ * <p>
+ * The processor records every class or interface annotated with
+ * {@code @Path}, {@link ReferencedBy}, or {@link TemplateResolver}: the
+ * root resources and the candidate sub-resource types that discovery would
+ * otherwise find by scanning the class path.  It is registered as a service,
+ * so it runs automatically when resource classes are compiled with this
+ * module on the class path.  Use {@link IndexedResourcePathResolverFactory}
+ * to create a resolver from the index.
+ *
+ * @author Carl Harris
+ */
+@SupportedAnnotationTypes({
+    "javax.ws.rs.Path",
+    "org.soulwing.jaxrs.href.ReferencedBy",
+    "org.soulwing.jaxrs.href.TemplateResolver"
+})
+public class ResourceIndexProcessor extends AbstractProcessor {
+
+  private final Set<String> typeNames = new LinkedHashSet<>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations,
+      RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind().isClass() || element.getKind().isInterface()) {
+          typeNames.add(processingEnv.getElementUtils()
+              .getBinaryName((TypeElement) element).toString());
+        }
+      }
+    }
+    if (roundEnv.processingOver() && !typeNames.isEmpty()) {
+      writeIndex();
+    }
+    return false;
+  }
+
+  /**
+   * Writes the index, merged with any index produced by a previous
+   * (incremental) compilation.
+   */
+  private void writeIndex() {
+    final Filer filer = processingEnv.getFiler();
+    final Set<String> names = new LinkedHashSet<>(readPreviousIndex(filer));
+    names.addAll(typeNames);
+    try {
+      final FileObject file = filer.createResource(
+          StandardLocation.CLASS_OUTPUT, "", ResourceIndex.RESOURCE_NAME);
+      try (Writer writer = new OutputStreamWriter(file.openOutputStream(),
+          StandardCharsets.UTF_8)) {
+        ResourceIndex.with(names).write(writer);
+      }
+    }
+    catch (IOException ex) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "failed to write " + ResourceIndex.RESOURCE_NAME + ": " + ex);
+    }
+  }
+
+  private Set<String> readPreviousIndex(Filer filer) {
+    try {
+      final FileObject file = filer.getResource(
+          StandardLocation.CLASS_OUTPUT, "", ResourceIndex.RESOURCE_NAME);
+      try (Reader reader = new InputStreamReader(file.openInputStream(),
+          StandardCharsets.UTF_8)) {
+        return ResourceIndex.read(reader).typeNames();
+      }
+    }
+    catch (FileNotFoundException | NoSuchFileException ex) {
+      return new LinkedHashSet<>();
+    }
+    catch (IOException ex) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+          "ignoring previous " + ResourceIndex.RESOURCE_NAME + ": " + ex);
+      return new LinkedHashSet<>();
+    }
+  }
+
+}
@@ -41,18 +41,39 @@ class ResourceMethodDescriptor extends AbstractResourceDescriptor {
   public ResourceMethodDescriptor(Method method,
       String path, ModelPath referencedBy,
       PathTemplateResolver templateResolver) {
-    super(path, referencedBy, templateResolver);
+    this(method, path, "", referencedBy, templateResolver);
+  }
+
+  /**
+   * Constructs a new instance whose path template shares a base path.
+   * @param method resource method
+   * @param path resource path template
+   * @param basePath base path shared by the templates of the application
+   * @param referencedBy model path
+   * @param templateResolver path template resolver
+   */
+  public ResourceMethodDescriptor(Method method,
+      String path, String basePath, ModelPath referencedBy,
+      PathTemplateResolver templateResolver) {
+    super(path, basePath, referencedBy, templateResolver);
     this.method = method;
   }
 
   @Override
-  protected String resourceType() {
+  public String resourceType() {
     return "method";
   }
 
   @Override
-  protected String resourceName() {
+  public String resourceName() {
     return method.getDeclaringClass().getSimpleName() + "." + method.getName();
   }
 
+  @Override
+  AbstractResourceDescriptor relocate(String path, String basePath,
+      ModelPath referencedBy) {
+    return new ResourceMethodDescriptor(method, path, basePath, referencedBy,
+        templateResolver());
+  }
+
 }
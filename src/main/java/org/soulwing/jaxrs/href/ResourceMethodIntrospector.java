@@ -37,7 +37,7 @@ interface ResourceMethodIntrospector {
    * @param templateResolver default template path resolver
    * @param reflectionService reflection service to use for introspection
    * @param typeIntrospector introspector to use for discovered types
-   * @param resolver the resolver to configure
+   * @param resolver the sink to which descriptors are added
    * @throws ResourceConfigurationException if a configuration error is
    *   discovered
    */
@@ -45,7 +45,7 @@ interface ResourceMethodIntrospector {
       TemplateResolver templateResolver,
       ReflectionService reflectionService,
       ResourceTypeIntrospector typeIntrospector,
-      ConfigurableResourcePathResolver resolver)
+      DescriptorSink resolver)
       throws ResourceConfigurationException;
 
 }
\ No newline at end of file
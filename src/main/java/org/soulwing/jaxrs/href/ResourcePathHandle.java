@@ -0,0 +1,65 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A handle for the path template of a resource whose model path has
+ * already been resolved.
+ * <p>
+ * A handle substitutes the values it is given for the variables of the
+ * resource path template by position; the {@link PathTemplateResolver}
+ * for the resource is not used, and no {@link PathTemplateContext} is
+ * needed.  Obtain a handle once using
+ * {@link ResourcePathResolver#handle(Class[])} and reuse it for every
+ * link to the same kind of resource.
+ *
+ * @author Carl Harris
+ */
+public interface ResourcePathHandle {
+
+  /**
+   * Resolves the path to the resource using the given variable values.
+   * @param values values for the variables of the path template, in the
+   *    order in which the variables appear in the template
+   * @return resource path
+   * @throws IllegalArgumentException if the number of values is not equal
+   *    to the number of variables in the path template
+   */
+  String resolve(Object... values);
+
+  /**
+   * Resolves the path to a resource whose template has a single variable.
+   * @param id value for the template variable
+   * @return resource path
+   * @throws IllegalArgumentException if the path template does not have
+   *    exactly one variable
+   */
+  String resolve(long id);
+
+  /**
+   * Resolves the path to a resource whose template has two variables.
+   * @param id1 value for the first template variable
+   * @param id2 value for the second template variable
+   * @return resource path
+   * @throws IllegalArgumentException if the path template does not have
+   *    exactly two variables
+   */
+  String resolve(long id1, long id2);
+
+}
@@ -36,5 +36,66 @@ public interface ResourcePathResolver {
    *    that is referenced by the given sequence of model types
    */
   String resolve(PathTemplateContext context, Class<?>... modelTypes);
-  
+
+  /**
+   * Resolves the path to a resource referenced by a sequence of model
+   * classes, substituting the given values for the variables of the
+   * resource path template by position.
+   * <p>
+   * The {@link PathTemplateResolver} for the resource is not used.  The
+   * default implementation throws {@link UnsupportedOperationException};
+   * every resolver provided by this library supports this method.
+   * @param values values for the variables of the resource path template,
+   *    in the order in which the variables appear in the template
+   * @param modelTypes sequence of model types that identify the
+   *    referenced resource
+   * @return resource path
+   * @throws ResourceNotFoundException if no resource could be found
+   *    that is referenced by the given sequence of model types
+   * @throws IllegalArgumentException if the number of values is not equal
+   *    to the number of variables in the resource path template
+   * @throws UnsupportedOperationException if this resolver does not
+   *    support resolution by position
+   */
+  default String resolveWith(Object[] values, Class<?>... modelTypes) {
+    throw new UnsupportedOperationException(
+        "resolution by position is not supported by "
+            + getClass().getName());
+  }
+
+  /**
+   * Gets a handle that can be used to repeatedly resolve the path to
+   * a resource referenced by a sequence of model classes.
+   * @param modelTypes sequence of model types that identify the
+   *    referenced resource
+   * @return path handle for the referenced resource
+   * @throws ResourceNotFoundException if no resource could be found
+   *    that is referenced by the given sequence of model types
+   * @throws UnsupportedOperationException if this resolver does not
+   *    support path handles (the default implementation throws this
+   *    exception; every resolver provided by this library supports path
+   *    handles)
+   */
+  default ResourcePathHandle handle(Class<?>... modelTypes) {
+    throw new UnsupportedOperationException(
+        "path handles are not supported by " + getClass().getName());
+  }
+
+  /**
+   * Prepares this resolver for use, so that the first resolutions after
+   * startup are not slowed by work deferred until first use.
+   * <p>
+   * An implementation that discovers or loads descriptors on demand does
+   * so for all descriptors, and then resolves the model path of every
+   * descriptor and expands its path template once, so that the classes
+   * involved in resolution are loaded and the code involved is exercised
+   * before it is needed.  The default implementation does nothing.
+   * @return time taken in milliseconds
+   * @throws ResourceConfigurationException if a configuration error is
+   *    discovered in a descriptor that had not previously been used
+   */
+  default long warmUp() throws ResourceConfigurationException {
+    return 0;
+  }
+
 }
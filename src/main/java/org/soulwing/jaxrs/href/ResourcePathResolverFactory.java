@@ -26,7 +26,10 @@ package org.soulwing.jaxrs.href;
 public interface ResourcePathResolverFactory {
 
   /**
-   * Constructs a new {@link ResourcePathResolver}.
+   * Gets a {@link ResourcePathResolver}.
+   * <p>
+   * An implementation may return the same (immutable) resolver from each
+   * invocation.
    * @return resource path resolver
    * @throws ResourceConfigurationException if a configuration error is
    *    discovered
@@ -0,0 +1,119 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.List;
+
+/**
+ * A management interface for the runtime metrics of a
+ * {@link ResourcePathResolver}.
+ * <p>
+ * Latencies are measured in nanoseconds, from the invocation of a resolver
+ * method to its return (including when it throws an exception).  Each
+ * percentile is an estimate whose relative error is no more than 12.5%.
+ *
+ * @author Carl Harris
+ */
+public interface ResourcePathResolverMetricsMXBean {
+
+  /**
+   * Gets the total number of resolutions, including those that failed.
+   * Each invocation of {@link ResourcePathResolver#handle(Class[])} is
+   * counted as a resolution.
+   * @return resolution count
+   */
+  long getResolveCount();
+
+  /**
+   * Gets the number of resolutions that failed with a
+   * {@link ResourceNotFoundException}.
+   * @return miss count
+   */
+  long getMissCount();
+
+  /**
+   * Gets the number of resolutions that failed with an
+   * {@link AmbiguousPathResolutionException}.
+   * @return ambiguity count
+   */
+  long getAmbiguityCount();
+
+  /**
+   * Gets the number of expansions satisfied by the path cache.
+   * @return hit count (zero if the resolver has no path cache)
+   */
+  long getPathCacheHitCount();
+
+  /**
+   * Gets the number of expansions not satisfied by the path cache.
+   * @return miss count (zero if the resolver has no path cache)
+   */
+  long getPathCacheMissCount();
+
+  /**
+   * Gets the fraction of expansions satisfied by the path cache.
+   * @return hit ratio in the range 0 to 1 (zero if the cache has not been
+   *    used)
+   */
+  double getPathCacheHitRatio();
+
+  /**
+   * Gets the median resolution latency.
+   * @return latency in nanoseconds
+   */
+  long getLatency50thPercentile();
+
+  /**
+   * Gets the 90th percentile of resolution latency.
+   * @return latency in nanoseconds
+   */
+  long getLatency90thPercentile();
+
+  /**
+   * Gets the 99th percentile of resolution latency.
+   * @return latency in nanoseconds
+   */
+  long getLatency99thPercentile();
+
+  /**
+   * Gets the 99.9th percentile of resolution latency.
+   * @return latency in nanoseconds
+   */
+  long getLatency999thPercentile();
+
+  /**
+   * Gets the maximum resolution latency.
+   * @return latency in nanoseconds
+   */
+  long getLatencyMax();
+
+  /**
+   * Gets the most frequently resolved model paths.
+   * @return list of the form {@code modelPath=count}, in descending order
+   *    of count
+   */
+  List<String> getTopModelPaths();
+
+  /**
+   * Discards all metrics recorded so far.  The path cache counters are
+   * not affected.
+   */
+  void reset();
+
+}
@@ -39,18 +39,39 @@ class ResourceTypeDescriptor extends AbstractResourceDescriptor {
   public ResourceTypeDescriptor(Class<?> type,
       String path, ModelPath referencedBy,
       PathTemplateResolver templateResolver) {
-    super(path, referencedBy, templateResolver);
+    this(type, path, "", referencedBy, templateResolver);
+  }
+
+  /**
+   * Constructs a new instance whose path template shares a base path.
+   * @param type resource type
+   * @param path resource path template
+   * @param basePath base path shared by the templates of the application
+   * @param referencedBy model path
+   * @param templateResolver path template resolver
+   */
+  public ResourceTypeDescriptor(Class<?> type,
+      String path, String basePath, ModelPath referencedBy,
+      PathTemplateResolver templateResolver) {
+    super(path, basePath, referencedBy, templateResolver);
     this.type = type;
   }
 
   @Override
-  protected String resourceType() {
+  public String resourceType() {
     return "type";
   }
 
   @Override
-  protected String resourceName() {
+  public String resourceName() {
     return type.getSimpleName();
   }
+
+  @Override
+  AbstractResourceDescriptor relocate(String path, String basePath,
+      ModelPath referencedBy) {
+    return new ResourceTypeDescriptor(type, path, basePath, referencedBy,
+        templateResolver());
+  }
   
 }
@@ -34,14 +34,14 @@ interface ResourceTypeIntrospector {
    * @param modelPath model parent model path
    * @param templateResolver default template path resolver
    * @param reflectionService reflection service to use for introspection
-   * @param resolver the resolver to configure
+   * @param resolver the sink to which descriptors are added
    * @throws ResourceConfigurationException if a configuration error is
    *   discovered
    */
   void describe(Class<?> type, String resourcePath, ModelPath modelPath,
       TemplateResolver templateResolver,
       ReflectionService reflectionService,
-      ConfigurableResourcePathResolver resolver)
+      DescriptorSink resolver)
       throws ResourceConfigurationException;
 
 }
@@ -0,0 +1,179 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A filter that limits the classes and JAR files scanned for resources.
+ * <p>
+ * A class is scanned if its name starts with any included package prefix
+ * (or no package prefixes are included) and does not start with any
+ * excluded package prefix.  Similarly, a JAR file is scanned if its name
+ * matches any included JAR name pattern (or no patterns are included) and
+ * does not match any excluded pattern.  A JAR name pattern may use
+ * {@code *} to match any sequence of characters and {@code ?} to match
+ * any single character (e.g. {@code myapp-*.jar}).
+ * <p>
+ * Each filter method accepts comma-separated lists, so that a filter can
+ * be configured directly from servlet context initialization parameters.
+ *
+ * @author Carl Harris
+ */
+public class ScanFilter {
+
+  private final List<String> includedPackages = new ArrayList<>();
+  private final List<String> excludedPackages = new ArrayList<>();
+  private final List<Pattern> includedJars = new ArrayList<>();
+  private final List<Pattern> excludedJars = new ArrayList<>();
+
+  /**
+   * Includes the given package prefixes.
+   * @param packages package names or comma-separated lists of names
+   * @return this filter
+   */
+  public ScanFilter includePackages(String... packages) {
+    includedPackages.addAll(packagePrefixes(packages));
+    return this;
+  }
+
+  /**
+   * Excludes the given package prefixes.
+   * @param packages package names or comma-separated lists of names
+   * @return this filter
+   */
+  public ScanFilter excludePackages(String... packages) {
+    excludedPackages.addAll(packagePrefixes(packages));
+    return this;
+  }
+
+  /**
+   * Includes JAR files whose names match the given patterns.
+   * @param patterns JAR name patterns or comma-separated lists of patterns
+   * @return this filter
+   */
+  public ScanFilter includeJars(String... patterns) {
+    includedJars.addAll(jarPatterns(patterns));
+    return this;
+  }
+
+  /**
+   * Excludes JAR files whose names match the given patterns.
+   * @param patterns JAR name patterns or comma-separated lists of patterns
+   * @return this filter
+   */
+  public ScanFilter excludeJars(String... patterns) {
+    excludedJars.addAll(jarPatterns(patterns));
+    return this;
+  }
+
+  /**
+   * Tests whether a class should be scanned.
+   * @param className binary name of the class
+   * @return {@code true} if the class should be scanned
+   */
+  boolean acceptsClass(String className) {
+    return (includedPackages.isEmpty() || startsWithAny(className,
+        includedPackages)) && !startsWithAny(className, excludedPackages);
+  }
+
+  /**
+   * Tests whether a JAR file should be scanned.
+   * @param jarName name of the JAR file (without any directory)
+   * @return {@code true} if the JAR file should be scanned
+   */
+  boolean acceptsJar(String jarName) {
+    return (includedJars.isEmpty() || matchesAny(jarName, includedJars))
+        && !matchesAny(jarName, excludedJars);
+  }
+
+  private static boolean startsWithAny(String className,
+      List<String> prefixes) {
+    for (String prefix : prefixes) {
+      if (className.startsWith(prefix)) return true;
+    }
+    return false;
+  }
+
+  private static boolean matchesAny(String jarName, List<Pattern> patterns) {
+    for (Pattern pattern : patterns) {
+      if (pattern.matcher(jarName).matches()) return true;
+    }
+    return false;
+  }
+
+  private static List<String> packagePrefixes(String... packages) {
+    final List<String> prefixes = new ArrayList<>();
+    for (String name : split(packages)) {
+      prefixes.add(name.endsWith(".") ? name : name + ".");
+    }
+    return prefixes;
+  }
+
+  private static List<Pattern> jarPatterns(String... patterns) {
+    final List<Pattern> jarPatterns = new ArrayList<>();
+    for (String pattern : split(patterns)) {
+      final StringBuilder sb = new StringBuilder();
+      for (int i = 0, max = pattern.length(); i < max; i++) {
+        final char c = pattern.charAt(i);
+        if (c == '*') {
+          sb.append(".*");
+        }
+        else if (c == '?') {
+          sb.append('.');
+        }
+        else {
+          sb.append(Pattern.quote(String.valueOf(c)));
+        }
+      }
+      jarPatterns.add(Pattern.compile(sb.toString()));
+    }
+    return jarPatterns;
+  }
+
+  private static List<String> split(String... values) {
+    if (values == null) return Collections.emptyList();
+    final List<String> tokens = new ArrayList<>();
+    for (String value : values) {
+      if (value == null) continue;
+      for (String token : value.split(",")) {
+        token = token.trim();
+        if (!token.isEmpty()) {
+          tokens.add(token);
+        }
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "includePackages=" + includedPackages
+        + ", excludePackages=" + excludedPackages
+        + ", includeJars=" + includedJars
+        + ", excludeJars=" + excludedJars;
+  }
+
+}
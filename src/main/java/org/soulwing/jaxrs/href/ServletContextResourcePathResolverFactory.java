@@ -18,62 +18,494 @@
  */
 package org.soulwing.jaxrs.href;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import javax.servlet.ServletContext;
+import javax.ws.rs.Path;
 import javax.ws.rs.core.UriBuilder;
 
-import org.reflections.Reflections;
-import org.reflections.scanners.TypeAnnotationsScanner;
 import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A {@link ResourcePathResolverFactory} for use in a web application.
+ * <p>
+ * The factory finds candidate resource types by scanning the class files
+ * in {@code WEB-INF/classes} and in the JAR files in {@code WEB-INF/lib}
+ * for the {@link Path} and {@link ReferencedBy} annotations, using a
+ * {@link ClassFileScanner}.  Only the classes so found are loaded.
+ * <p>
+ * If a descriptor cache file is configured, the descriptors discovered
+ * by this factory are written to the file together with a fingerprint of
+ * the web application's class path.  When the factory is subsequently
+ * used with an unchanged class path, the descriptors are loaded from the
+ * file and the class path is neither scanned nor introspected.
+ * <p>
+ * If the descriptor cache is also configured to be mapped, a resolver
+ * produced from a valid cache file reads descriptors directly from a
+ * memory-mapped view of the file, so that every process on a host that
+ * uses the same file shares a single copy of the descriptor table.
+ * <p>
+ * If a discovery executor is configured, discovery is started on the
+ * executor when the factory is initialized, so that initialization returns
+ * without waiting for the class path to be scanned.  Until discovery
+ * completes, {@link #newResolver()} returns a resolver that waits for the
+ * discovered resolver on its first use.  Completion of discovery can also
+ * be observed using {@link #getResolverFuture()}.
+ *
  * @author Carl Harris
  */
 public class ServletContextResourcePathResolverFactory
-    implements ResourcePathResolverFactory {
+    extends AbstractResourcePathResolverFactory {
+
+  /**
+   * Name of the context initialization parameter that specifies the
+   * package prefixes to include in the scan.
+   */
+  public static final String INCLUDE_PACKAGES =
+      "org.soulwing.jaxrs.href.includePackages";
+
+  /**
+   * Name of the context initialization parameter that specifies the
+   * package prefixes to exclude from the scan.
+   */
+  public static final String EXCLUDE_PACKAGES =
+      "org.soulwing.jaxrs.href.excludePackages";
+
+  /**
+   * Name of the context initialization parameter that specifies the
+   * patterns for JAR names to include in the scan.
+   */
+  public static final String INCLUDE_JARS =
+      "org.soulwing.jaxrs.href.includeJars";
+
+  /**
+   * Name of the context initialization parameter that specifies the
+   * patterns for JAR names to exclude from the scan.
+   */
+  public static final String EXCLUDE_JARS =
+      "org.soulwing.jaxrs.href.excludeJars";
+
+  /**
+   * Default maximum time (in milliseconds) that a resolver waits for
+   * background discovery to complete.
+   */
+  public static final long DEFAULT_DISCOVERY_TIMEOUT = 60000;
 
-  private final ResourceDiscoveryService resourceDiscoveryService =
-      new ReflectionResourceDiscoveryService();
+  private static final Logger logger =
+      LoggerFactory.getLogger(ServletContextResourcePathResolverFactory.class);
 
-  private ReflectionService reflectionService;
+  private volatile ReflectionService reflectionService;
   private String applicationPath;
+  private ClassLoader classLoader;
+  private Collection<URL> urls;
+  private ScanFilter scanFilter;
+  private File descriptorCacheFile;
+  private boolean descriptorCacheMapped;
+  private Executor discoveryExecutor;
+  private long discoveryTimeout = DEFAULT_DISCOVERY_TIMEOUT;
+  private volatile CompletableFuture<ResourcePathResolver> resolverFuture;
+
+  /**
+   * Sets the file in which discovered descriptors are cached.
+   * @param descriptorCacheFile cache file; the default is {@code null},
+   *    which disables the cache
+   */
+  public void setDescriptorCacheFile(File descriptorCacheFile) {
+    this.descriptorCacheFile = descriptorCacheFile;
+  }
+
+  /**
+   * Sets a flag that determines whether resolvers produced from a valid
+   * descriptor cache file read descriptors from a memory-mapped view of
+   * the file.
+   * @param descriptorCacheMapped {@code true} to map the cache file; the
+   *    default is {@code false}, in which case descriptors are read into
+   *    the heap
+   */
+  public void setDescriptorCacheMapped(boolean descriptorCacheMapped) {
+    this.descriptorCacheMapped = descriptorCacheMapped;
+  }
+
+  /**
+   * Sets the executor on which discovery is started when this factory is
+   * initialized.
+   * @param discoveryExecutor discovery executor; the default is
+   *    {@code null}, in which case discovery is performed by the thread
+   *    that first requests a resolver
+   */
+  public void setDiscoveryExecutor(Executor discoveryExecutor) {
+    this.discoveryExecutor = discoveryExecutor;
+  }
+
+  /**
+   * Sets the maximum time that a resolver obtained before background
+   * discovery completes waits for discovery on its first use.
+   * @param timeout maximum time to wait; the default is
+   *    {@value #DEFAULT_DISCOVERY_TIMEOUT} milliseconds
+   * @param timeUnit unit for {@code timeout}
+   */
+  public void setDiscoveryTimeout(long timeout, TimeUnit timeUnit) {
+    this.discoveryTimeout = timeUnit.toMillis(timeout);
+  }
 
   /**
    * Initializes this resolver using the JAX-RS root resource classes
    * discovered within the given servlet context.
+   * <p>
+   * The classes and JAR files that are scanned may be limited using the
+   * context initialization parameters {@value #INCLUDE_PACKAGES},
+   * {@value #EXCLUDE_PACKAGES}, {@value #INCLUDE_JARS}, and
+   * {@value #EXCLUDE_JARS}, each of which is a comma-separated list (see
+   * {@link ScanFilter}).
    * @param applicationPath the JAX-RS application path
    * @param servletContext  the subject servlet context
    */
   public void init(String applicationPath, ServletContext servletContext) {
-    this.applicationPath = UriBuilder.fromPath(servletContext.getContextPath())
+    init(applicationPath, servletContext, new ScanFilter()
+        .includePackages(servletContext.getInitParameter(INCLUDE_PACKAGES))
+        .excludePackages(servletContext.getInitParameter(EXCLUDE_PACKAGES))
+        .includeJars(servletContext.getInitParameter(INCLUDE_JARS))
+        .excludeJars(servletContext.getInitParameter(EXCLUDE_JARS)));
+  }
+
+  /**
+   * Initializes this resolver using the JAX-RS root resource classes
+   * discovered within the given servlet context, limited by the given
+   * filter.
+   * @param applicationPath the JAX-RS application path
+   * @param servletContext  the subject servlet context
+   * @param scanFilter filter for the classes and JAR files to scan
+   */
+  public void init(String applicationPath, ServletContext servletContext,
+      ScanFilter scanFilter) {
+    this.applicationPath = qualifiedApplicationPath(applicationPath,
+        servletContext);
+    this.classLoader = servletContext.getClassLoader();
+    this.scanFilter = scanFilter;
+    this.urls = webInfUrls(servletContext, scanFilter);
+    this.reflectionService = null;
+    reset();
+    this.resolverFuture = discoveryExecutor != null ?
+        CompletableFuture.supplyAsync(new Supplier<ResourcePathResolver>() {
+          @Override
+          public ResourcePathResolver get() {
+            return discover();
+          }
+        }, discoveryExecutor) : null;
+  }
+
+  /**
+   * Qualifies a JAX-RS application path with the path of a servlet context.
+   * @param applicationPath the JAX-RS application path
+   * @param servletContext the subject servlet context
+   * @return context-qualified application path
+   */
+  static String qualifiedApplicationPath(String applicationPath,
+      ServletContext servletContext) {
+    return UriBuilder.fromPath(servletContext.getContextPath())
         .path(applicationPath)
         .toTemplate();
-    this.reflectionService = newReflectionService(servletContext);
   }
 
-  private ReflectionService newReflectionService(ServletContext servletContext) {
-    return new DelegatingReflectionService(reflections(servletContext));
+  private static Collection<URL> webInfUrls(ServletContext servletContext,
+      ScanFilter scanFilter) {
+    final List<URL> urls = new ArrayList<>();
+    final URL classes = ClasspathHelper.forWebInfClasses(servletContext);
+    if (classes != null) {
+      urls.add(classes);
+    }
+    for (URL url : ClasspathHelper.forWebInfLib(servletContext)) {
+      final String path = url.getPath();
+      if (scanFilter.acceptsJar(path.substring(path.lastIndexOf('/') + 1))) {
+        urls.add(url);
+      }
+    }
+    return urls;
+  }
+
+  private ReflectionService newReflectionService() {
+    final ClassFileScanner scanner = new ClassFileScanner(
+        Arrays.<Class<?>>asList(Path.class, ReferencedBy.class),
+        Runtime.getRuntime().availableProcessors(), scanFilter);
+    final Collection<String> classNames;
+    final FlightRecording recording =
+        FlightRecorderEvents.beginScan(applicationPath, urls.size());
+    try {
+      classNames = scanner.scan(urls);
+    }
+    finally {
+      recording.complete();
+    }
+    return ClassSetReflectionService.forNames(classNames, classLoader);
   }
 
-  private Reflections reflections(ServletContext servletContext) {
-    return new Reflections(new ConfigurationBuilder()
-        .addUrls(ClasspathHelper.forWebInfClasses(servletContext))
-        .addUrls(ClasspathHelper.forWebInfLib(servletContext))
-        .addScanners(new TypeAnnotationsScanner()));
+  private String fingerprintQualifier() {
+    return getApplicationPath() + "|" + scanFilter;
   }
 
+  /**
+   * Gets a future for the resolver produced by this factory.
+   * <p>
+   * If discovery was started in the background when this factory was
+   * initialized, the returned future completes when discovery completes.
+   * Otherwise, discovery (if not already performed) is performed by the
+   * calling thread, and the returned future is already complete.
+   * @return future resolver, which completes exceptionally with a
+   *    {@link ResourceConfigurationException} if a configuration error is
+   *    discovered
+   */
+  public CompletableFuture<ResourcePathResolver> getResolverFuture() {
+    final CompletableFuture<ResourcePathResolver> future = resolverFuture;
+    if (future != null) return future;
+    final CompletableFuture<ResourcePathResolver> result =
+        new CompletableFuture<>();
+    try {
+      result.complete(newResolver());
+    }
+    catch (RuntimeException ex) {
+      result.completeExceptionally(ex);
+    }
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * While background discovery is in progress, this method returns a
+   * resolver that waits for discovery to complete on its first use, for
+   * at most the configured discovery timeout.  If background discovery
+   * failed, this method throws the error that caused it to fail, rather
+   * than discovering resources again; use {@link #rebuild()} to retry.
+   */
   @Override
   public ResourcePathResolver newResolver()
       throws ResourceConfigurationException {
+    final CompletableFuture<ResourcePathResolver> future = resolverFuture;
+    if (future != null) {
+      if (!future.isDone()) {
+        return new DeferredResourcePathResolver(future, discoveryTimeout,
+            TimeUnit.MILLISECONDS);
+      }
+      if (future.isCompletedExceptionally()) {
+        throw discoveryFailure(future);
+      }
+    }
+    return super.newResolver();
+  }
 
-    ConfigurableResourcePathResolver resolver =
-        new SimpleResourcePathResolver();
+  /**
+   * {@inheritDoc}
+   * <p>
+   * When discovery was started in the background, the future returned by
+   * {@link #getResolverFuture()} is replaced by one that is completed with
+   * the outcome of this method.
+   */
+  @Override
+  public synchronized ResourcePathResolver rebuild()
+      throws ResourceConfigurationException {
+    if (resolverFuture == null) {
+      return super.rebuild();
+    }
+    try {
+      final ResourcePathResolver resolver = super.rebuild();
+      resolverFuture = CompletableFuture.completedFuture(resolver);
+      return resolver;
+    }
+    catch (RuntimeException ex) {
+      final CompletableFuture<ResourcePathResolver> failed =
+          new CompletableFuture<>();
+      failed.completeExceptionally(ex);
+      resolverFuture = failed;
+      throw ex;
+    }
+  }
 
-    resourceDiscoveryService.discoverResources(applicationPath,
-        reflectionService, resolver);
+  /**
+   * {@inheritDoc}
+   * <p>
+   * If discovery was started in the background and has not yet completed,
+   * this method first waits for it to complete (regardless of its outcome),
+   * so that the registration made by discovery is also removed.
+   */
+  @Override
+  public void close() {
+    final CompletableFuture<ResourcePathResolver> future = resolverFuture;
+    if (future != null) {
+      try {
+        future.join();
+      }
+      catch (RuntimeException ex) {
+        logger.debug("background discovery failed: {}", ex.toString());
+      }
+    }
+    super.close();
+  }
 
+  /**
+   * Gets the error that caused an exceptionally completed discovery.
+   * @param future the completed future
+   * @return the {@link ResourceConfigurationException} that caused
+   *    discovery to fail, or an {@link IllegalStateException} that wraps
+   *    any other cause
+   */
+  private static RuntimeException discoveryFailure(
+      CompletableFuture<ResourcePathResolver> future) {
+    try {
+      future.join();
+      return new IllegalStateException("resource discovery did not fail");
+    }
+    catch (CancellationException ex) {
+      return new IllegalStateException("resource discovery was cancelled",
+          ex);
+    }
+    catch (CompletionException ex) {
+      final Throwable cause = ex.getCause();
+      if (cause instanceof ResourceConfigurationException) {
+        return (ResourceConfigurationException) cause;
+      }
+      return new IllegalStateException("resource discovery failed", cause);
+    }
+  }
+
+  private ResourcePathResolver discover() {
+    final long start = System.currentTimeMillis();
+    final ResourcePathResolver resolver = super.newResolver();
+    logger.debug("background discovery completed in {} ms",
+        System.currentTimeMillis() - start);
     return resolver;
   }
 
+  @Override
+  ResourcePathResolver createResolver(ExpandedPathCache pathCache)
+      throws ResourceConfigurationException {
+    if (descriptorCacheMapped && descriptorCacheFile != null
+        && !isLazyDiscovery()) {
+      final DescriptorTable table = mapDescriptors();
+      if (table != null) {
+        return new MappedResourcePathResolver(table, classLoader, pathCache,
+            getResolutionListener());
+      }
+    }
+    return super.createResolver(pathCache);
+  }
+
+  private DescriptorTable mapDescriptors() {
+    final byte[] fingerprint =
+        ClasspathFingerprint.of(fingerprintQualifier(), urls);
+    if (fingerprint == null || !descriptorCacheFile.isFile()) return null;
+    try {
+      final DescriptorTable table = DescriptorTable.map(descriptorCacheFile);
+      if (!Arrays.equals(fingerprint, table.fingerprint())) {
+        logger.debug("descriptor cache {} is stale", descriptorCacheFile);
+        return null;
+      }
+      logger.debug("mapped {} descriptor(s) from {}", table.size(),
+          descriptorCacheFile);
+      return table;
+    }
+    catch (IOException ex) {
+      logger.warn("cannot map descriptor cache {}: {}", descriptorCacheFile,
+          ex.toString());
+      return null;
+    }
+  }
+
+  @Override
+  void discoverResources(SimpleResourcePathResolver resolver)
+      throws ResourceConfigurationException {
+    final byte[] fingerprint = descriptorCacheFile != null ?
+        ClasspathFingerprint.of(fingerprintQualifier(), urls) : null;
+    if (fingerprint == null) {
+      super.discoverResources(resolver);
+      return;
+    }
+    if (loadDescriptors(fingerprint, resolver)) {
+      resolver.validate();
+      return;
+    }
+    super.discoverResources(resolver);
+    storeDescriptors(fingerprint, resolver.descriptors());
+  }
+
+  private boolean loadDescriptors(byte[] fingerprint,
+      SimpleResourcePathResolver resolver) {
+    if (!descriptorCacheFile.isFile()) return false;
+    try {
+      final DescriptorTable table = DescriptorTable.read(descriptorCacheFile);
+      if (!Arrays.equals(fingerprint, table.fingerprint())) {
+        logger.debug("descriptor cache {} is stale", descriptorCacheFile);
+        return false;
+      }
+      for (ResourceDescriptor descriptor :
+          table.toDescriptors(classLoader)) {
+        resolver.addDescriptor(descriptor);
+      }
+      logger.debug("loaded {} descriptor(s) from {}", table.size(),
+          descriptorCacheFile);
+      return true;
+    }
+    catch (IOException | ClassNotFoundException | RuntimeException ex) {
+      logger.warn("cannot load descriptor cache {}: {}", descriptorCacheFile,
+          ex.toString());
+      return false;
+    }
+  }
+
+  private void storeDescriptors(byte[] fingerprint,
+      Collection<ResourceDescriptor> descriptors) {
+    final List<AbstractResourceDescriptor> cacheable = new ArrayList<>();
+    for (ResourceDescriptor descriptor : descriptors) {
+      if (!(descriptor instanceof AbstractResourceDescriptor)) return;
+      cacheable.add((AbstractResourceDescriptor) descriptor);
+    }
+    try {
+      DescriptorTable.write(descriptorCacheFile, fingerprint, cacheable);
+      logger.debug("stored {} descriptor(s) in {}", cacheable.size(),
+          descriptorCacheFile);
+    }
+    catch (IOException ex) {
+      logger.warn("cannot store descriptor cache {}: {}", descriptorCacheFile,
+          ex.toString());
+    }
+  }
+
+  @Override
+  protected String getApplicationPath() {
+    if (applicationPath == null) {
+      throw new IllegalStateException("factory has not been initialized");
+    }
+    return applicationPath;
+  }
+
+  @Override
+  protected ReflectionService getReflectionService() {
+    if (urls == null) {
+      throw new IllegalStateException("factory has not been initialized");
+    }
+    ReflectionService reflectionService = this.reflectionService;
+    if (reflectionService == null) {
+      synchronized (this) {
+        reflectionService = this.reflectionService;
+        if (reflectionService == null) {
+          reflectionService = newReflectionService();
+          this.reflectionService = reflectionService;
+        }
+      }
+    }
+    return reflectionService;
+  }
+
 }
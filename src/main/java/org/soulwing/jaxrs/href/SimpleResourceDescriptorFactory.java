@@ -30,18 +30,18 @@ class SimpleResourceDescriptorFactory implements ResourceDescriptorFactory {
 
   @Override
   public ResourceDescriptor newDescriptor(Class<?> type,
-      String resourcePath, ModelPath modelPath,
+      String resourcePath, String basePath, ModelPath modelPath,
       PathTemplateResolver templateResolver) {
-    return new ResourceTypeDescriptor(type, resourcePath, modelPath,
-        templateResolver);
+    return new ResourceTypeDescriptor(type, resourcePath, basePath,
+        modelPath, templateResolver);
   }
 
   @Override
   public ResourceDescriptor newDescriptor(Method method,
-      String resourcePath, ModelPath modelPath, PathTemplateResolver
-      templateResolver) {
-    return new ResourceMethodDescriptor(method, resourcePath, modelPath,
-        templateResolver);
+      String resourcePath, String basePath, ModelPath modelPath,
+      PathTemplateResolver templateResolver) {
+    return new ResourceMethodDescriptor(method, resourcePath, basePath,
+        modelPath, templateResolver);
   }
 
 }
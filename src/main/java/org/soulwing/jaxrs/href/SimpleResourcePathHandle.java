@@ -0,0 +1,70 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A {@link ResourcePathHandle} backed by a compiled path template.
+ *
+ * @author Carl Harris
+ */
+class SimpleResourcePathHandle implements ResourcePathHandle {
+
+  private final PathTemplate template;
+
+  /**
+   * Constructs a new instance.
+   * @param template the path template to expand
+   */
+  SimpleResourcePathHandle(PathTemplate template) {
+    this.template = template;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(Object... values) {
+    return template.expand(values);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(long id) {
+    return template.expand(new long[] { id });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolve(long id1, long id2) {
+    return template.expand(new long[] { id1, id2 });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return template.toString();
+  }
+
+}
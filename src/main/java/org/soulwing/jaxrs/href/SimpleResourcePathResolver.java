@@ -19,6 +19,7 @@
 package org.soulwing.jaxrs.href;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -27,6 +28,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +46,47 @@ class SimpleResourcePathResolver implements ConfigurableResourcePathResolver {
   private final Set<ResourceDescriptor> descriptors =
       new HashSet<>();
 
+  private final ExpandedPathCache pathCache;
+
+  private final ResolutionListener listener;
+
+  /**
+   * Constructs a new instance that does not cache resolved paths.
+   */
+  SimpleResourcePathResolver() {
+    this(null);
+  }
+
+  /**
+   * Constructs a new instance that uses the given cache for paths resolved
+   * by substituting template variables directly.
+   * @param pathCache path cache or {@code null} to disable caching
+   */
+  SimpleResourcePathResolver(ExpandedPathCache pathCache) {
+    this(pathCache, ResolutionListener.NONE);
+  }
+
+  /**
+   * Constructs a new instance that uses the given cache for paths resolved
+   * by substituting template variables directly, and notifies the given
+   * listener of the steps of each resolution.
+   * @param pathCache path cache or {@code null} to disable caching
+   * @param listener resolution listener
+   */
+  SimpleResourcePathResolver(ExpandedPathCache pathCache,
+      ResolutionListener listener) {
+    this.pathCache = pathCache;
+    this.listener = listener;
+  }
+
+  /**
+   * Gets the listener that is notified of the steps of each resolution.
+   * @return resolution listener
+   */
+  ResolutionListener listener() {
+    return listener;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -53,6 +96,14 @@ class SimpleResourcePathResolver implements ConfigurableResourcePathResolver {
     descriptors.add(descriptor);
   }
 
+  /**
+   * Gets the descriptors that have been added to this resolver.
+   * @return unmodifiable collection of descriptors
+   */
+  Collection<ResourceDescriptor> descriptors() {
+    return Collections.unmodifiableSet(descriptors);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -104,49 +155,128 @@ class SimpleResourcePathResolver implements ConfigurableResourcePathResolver {
    */
   @Override
   public String resolve(PathTemplateContext context, Class<?>... modelPath) {
-    final ResourceDescriptor descriptor = findBestMatch(
-        ModelPath.with(modelPath));
-    return descriptor.templateResolver().resolve(descriptor.path(), context);
+    final ResolveRecording recording = FlightRecorderEvents.beginResolve();
+    try {
+      final ResourceDescriptor descriptor = findBestMatch(modelPath,
+          recording);
+      final BindingPlan bindingPlan = descriptor.bindingPlan();
+      if (bindingPlan != null) {
+        return expand(descriptor, bindingPlan.template(),
+            bindingPlan.bind(context));
+      }
+      return descriptor.templateResolver().resolve(descriptor.path(),
+          context);
+    }
+    finally {
+      recording.complete();
+    }
   }
 
-  private ResourceDescriptor findBestMatch(ModelPath modelPath) {
-    List<ResourceDescriptor> matches = findAllMatches(modelPath);
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String resolveWith(Object[] values, Class<?>... modelPath) {
+    final ResolveRecording recording = FlightRecorderEvents.beginResolve();
+    try {
+      final ResourceDescriptor descriptor = findBestMatch(modelPath,
+          recording);
+      return expand(descriptor, descriptor.template(), values);
+    }
+    finally {
+      recording.complete();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ResourcePathHandle handle(Class<?>... modelPath) {
+    return new SimpleResourcePathHandle(
+        findBestMatch(modelPath, ResolveRecording.NONE).template());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation resolves the model path of each descriptor and
+   * expands its template (without using the path cache).  Template
+   * resolvers are not invoked, since a resolver supplied by the application
+   * may have side effects or require objects that only a real resolution
+   * can supply.
+   */
+  @Override
+  public long warmUp() {
+    final long start = System.nanoTime();
+    for (ResourceDescriptor descriptor : descriptors) {
+      findBestMatch(descriptor.referencedBy().asArray(),
+          ResolveRecording.NONE);
+      descriptor.template().warmUp();
+    }
+    final long elapsed =
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    logger.debug("warmed up {} descriptor(s) in {} ms", descriptors.size(),
+        elapsed);
+    return elapsed;
+  }
+
+  private String expand(ResourceDescriptor descriptor, PathTemplate template,
+      Object[] values) {
+    if (pathCache == null) {
+      return template.expand(values);
+    }
+    return pathCache.expand(descriptor, template, values);
+  }
+
+  private ResourceDescriptor findBestMatch(Class<?>[] modelTypes,
+      ResolveRecording recording) {
+    final ModelPath modelPath = ModelPath.with(modelTypes);
+    List<ResourceDescriptor> matches = findAllMatches(modelTypes, modelPath);
 
     final int numMatches = matches.size();
+    recording.matched(modelPath, numMatches, null);
     if (numMatches == 0) {
+      listener.missed(modelTypes);
       throw new ResourceNotFoundException(modelPath);
     }
     if (numMatches == 1) {
       final ResourceDescriptor descriptor = matches.get(0);
-      if (logger.isTraceEnabled()) {
-        logger.trace("{} has singular match {}", modelPath, descriptor);
-      }
+      listener.winnerChosen(modelTypes, descriptor,
+          ResolutionListener.Basis.SINGULAR, numMatches);
+      recording.matched(modelPath, numMatches, descriptor);
       return descriptor;
     }
 
-    final ResourceDescriptor exactMatch = findExactMatch(modelPath, matches);
+    final ResourceDescriptor exactMatch = findExactMatch(modelTypes, modelPath,
+        matches);
     if (exactMatch != null) {
-      if (logger.isTraceEnabled()) {
-        logger.trace("{} has exact match {}", modelPath, exactMatch);
-      }
+      listener.winnerChosen(modelTypes, exactMatch,
+          ResolutionListener.Basis.EXACT, numMatches);
+      recording.matched(modelPath, numMatches, exactMatch);
       return exactMatch;
     }
 
-    matches = findLongestMatches(modelPath, matches);
+    matches = findLongestMatches(modelTypes, matches);
     final int length = matches.get(0).referencedBy().length();
     int step = 0;
     while (step < length && matches.size() > 1) {
-      matches = findBestMatchesAtStep(step++, modelPath, matches);
+      matches = findBestMatchesAtStep(step++, modelTypes, matches);
     }
     if (matches.size() > 1) {
+      listener.ambiguous(modelTypes, Collections.unmodifiableList(matches));
       throw new AmbiguousPathResolutionException(modelPath, matches);
     }
 
-    return matches.get(0);
+    final ResourceDescriptor bestMatch = matches.get(0);
+    listener.winnerChosen(modelTypes, bestMatch,
+        ResolutionListener.Basis.BEST, numMatches);
+    recording.matched(modelPath, numMatches, bestMatch);
+    return bestMatch;
   }
 
-  private ResourceDescriptor findExactMatch(ModelPath modelPath,
-      List<ResourceDescriptor> allMatches) {
+  private ResourceDescriptor findExactMatch(Class<?>[] modelTypes,
+      ModelPath modelPath, List<ResourceDescriptor> allMatches) {
     assert allMatches.size() > 0;
     if (allMatches.size() == 1) {
       return allMatches.get(0);
@@ -165,6 +295,7 @@ class SimpleResourcePathResolver implements ConfigurableResourcePathResolver {
     }
 
     if (numMatches > 1) {
+      listener.ambiguous(modelTypes, Collections.unmodifiableList(matches));
       throw new AmbiguousPathResolutionException(modelPath, matches);
     }
 
@@ -172,16 +303,12 @@ class SimpleResourcePathResolver implements ConfigurableResourcePathResolver {
   }
 
   private List<ResourceDescriptor> findBestMatchesAtStep(int step,
-      ModelPath modelPath, List<ResourceDescriptor> descriptors) {
+      Class<?>[] modelTypes, List<ResourceDescriptor> descriptors) {
     ModelPath.MatchType matchType = bestMatchTypeAtStep(step, descriptors);
     List<ResourceDescriptor> matches = new ArrayList<>(descriptors.size());
     for (ResourceDescriptor descriptor : descriptors) {
       if (descriptor.referencedBy().matchTypeAt(step) == matchType) {
-        if (logger.isTraceEnabled()) {
-          logger.trace("at step {}: {} has best match {}", step, modelPath,
-              descriptor);
-        }
-
+        listener.bestMatchFoundAtStep(step, modelTypes, descriptor);
         matches.add(descriptor);
       }
     }
@@ -203,8 +330,8 @@ class SimpleResourcePathResolver implements ConfigurableResourcePathResolver {
     return bestMatchType;
   }
 
-  private List<ResourceDescriptor> findLongestMatches(
-      ModelPath modelPath, List<ResourceDescriptor> allMatches) {
+  private List<ResourceDescriptor> findLongestMatches(Class<?>[] modelTypes,
+      List<ResourceDescriptor> allMatches) {
     if (allMatches.size() <= 1) return allMatches;
     Collections.sort(allMatches, new Comparator<ResourceDescriptor>() {
       @Override
@@ -219,19 +346,18 @@ class SimpleResourcePathResolver implements ConfigurableResourcePathResolver {
     while (i < allMatches.size()
         && allMatches.get(i).referencedBy().length() == longest) {
       final ResourceDescriptor descriptor = allMatches.get(i++);
-      if (logger.isTraceEnabled()) {
-        logger.trace("{} has longest match {}", modelPath, descriptor);
-      }
+      listener.longestMatchFound(modelTypes, descriptor);
       longestMatches.add(descriptor);
     }
     return longestMatches;
   }
 
-  private List<ResourceDescriptor> findAllMatches(ModelPath modelPath) {
+  private List<ResourceDescriptor> findAllMatches(Class<?>[] modelTypes,
+      ModelPath modelPath) {
     List<ResourceDescriptor> matches = new ArrayList<>();
     for (ResourceDescriptor descriptor : descriptors) {
       if (descriptor.matches(modelPath)) {
-        logger.trace("{} matches {}", modelPath, descriptor);
+        listener.candidateFound(modelTypes, descriptor);
         matches.add(descriptor);
       }
     }
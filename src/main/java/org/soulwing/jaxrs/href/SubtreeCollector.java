@@ -0,0 +1,153 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A {@link DescriptorCollector} for the descriptors of a single resource
+ * type subtree.
+ * <p>
+ * A subtree is position dependent if any of its descriptors depend on the
+ * path or model path at which the subtree is introspected, other than by
+ * simple concatenation (as when the concrete type of a sub-resource
+ * locator is chosen by matching the complete model path).  Descriptors of
+ * a position dependent subtree cannot be reused at another position.
+ * <p>
+ * Each collector refers to the collector of the enclosing subtree (if
+ * any), so that the chain of types from a root resource to the subtree is
+ * available for cycle detection and for error reporting.
+ *
+ * @author Carl Harris
+ */
+class SubtreeCollector extends DescriptorCollector {
+
+  private final SubtreeCollector parent;
+  private final Class<?> type;
+  private final ModelPath modelPath;
+  private final int depth;
+
+  private int height;
+  private boolean positionDependent;
+
+  /**
+   * Constructs a new instance.
+   * @param parent collector of the enclosing subtree or {@code null} if
+   *    {@code type} is a root resource type
+   * @param type resource type of the subtree
+   * @param modelPath model path at which {@code type} is introspected
+   * @param basePath base path shared by the path templates of the
+   *    collected descriptors
+   */
+  SubtreeCollector(SubtreeCollector parent, Class<?> type,
+      ModelPath modelPath, String basePath) {
+    super(basePath);
+    this.parent = parent;
+    this.type = type;
+    this.modelPath = modelPath;
+    this.depth = parent != null ? parent.depth + 1 : 1;
+  }
+
+  /**
+   * Gets the collector of the subtree enclosing the subtree collected by
+   * the given resolver.
+   * @param resolver the resolver to which descriptors are being added
+   * @return collector or {@code null} if {@code resolver} is not a
+   *    subtree collector
+   */
+  static SubtreeCollector enclosing(DescriptorSink resolver) {
+    return resolver instanceof SubtreeCollector ?
+        (SubtreeCollector) resolver : null;
+  }
+
+  /**
+   * Marks the subtree being collected by the given resolver (if any) as
+   * position dependent.
+   * @param resolver the resolver to which descriptors are being added
+   */
+  static void markPositionDependent(DescriptorSink resolver) {
+    if (resolver instanceof SubtreeCollector) {
+      ((SubtreeCollector) resolver).positionDependent = true;
+    }
+  }
+
+  /**
+   * Gets a flag indicating whether the collected subtree is position
+   * dependent.
+   * @return {@code true} if the subtree is position dependent
+   */
+  boolean isPositionDependent() {
+    return positionDependent;
+  }
+
+  /**
+   * Gets the depth of this subtree.
+   * @return number of types in the chain from a root resource type to the
+   *    type of this subtree, inclusive
+   */
+  int depth() {
+    return depth;
+  }
+
+  /**
+   * Gets the height of this subtree.
+   * @return number of types in the longest chain of sub-resource types
+   *    below the type of this subtree
+   */
+  int height() {
+    return height;
+  }
+
+  /**
+   * Notes that a subtree of the given height is enclosed by this subtree.
+   * @param height height of the enclosed subtree
+   */
+  void addSubtree(int height) {
+    this.height = Math.max(this.height, height + 1);
+  }
+
+  /**
+   * Finds the collector in the chain ending with this collector for a
+   * subtree of the given type at the given model path.
+   * @param type resource type
+   * @param modelPath model path
+   * @return collector or {@code null} if there is no such collector
+   */
+  SubtreeCollector find(Class<?> type, ModelPath modelPath) {
+    for (SubtreeCollector c = this; c != null; c = c.parent) {
+      if (c.type.equals(type) && c.modelPath.equals(modelPath)) return c;
+    }
+    return null;
+  }
+
+  /**
+   * Creates a string representation of the chain of types ending with
+   * this collector.
+   * @return string of the form {@code Type [model path] -> ...}
+   */
+  String chain() {
+    final StringBuilder sb = new StringBuilder();
+    for (SubtreeCollector c = this; c != null; c = c.parent) {
+      if (sb.length() > 0) {
+        sb.insert(0, " -> ");
+      }
+      sb.insert(0, c.type.getSimpleName() + " " + c.modelPath);
+    }
+    return sb.toString();
+  }
+
+}
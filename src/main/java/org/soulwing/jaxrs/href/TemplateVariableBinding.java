@@ -0,0 +1,36 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+/**
+ * A strategy for obtaining the value of a single path template variable
+ * from a {@link PathTemplateContext}.
+ *
+ * @author Carl Harris
+ */
+public interface TemplateVariableBinding {
+
+  /**
+   * Gets the value of the bound variable from the given context.
+   * @param context context for path resolution
+   * @return variable value (must not be {@code null})
+   */
+  Object valueOf(PathTemplateContext context);
+
+}
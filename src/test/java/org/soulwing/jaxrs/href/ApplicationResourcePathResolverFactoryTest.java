@@ -0,0 +1,185 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ApplicationResourcePathResolverFactory}.
+ *
+ * @author Carl Harris
+ */
+public class ApplicationResourcePathResolverFactoryTest {
+
+  private final ApplicationResourcePathResolverFactory factory =
+      new ApplicationResourcePathResolverFactory();
+
+  @Test
+  public void testInitWithApplication() throws Exception {
+    factory.init(new MockApplication());
+    assertThat(factory.newResolver().resolveWith(new Object[] { 1 },
+        Integer.class), is(equalTo("/api/resources/1")));
+  }
+
+  @Test
+  public void testInitWithSingletons() throws Exception {
+    factory.init("/context/api", new Application() {
+      @Override
+      public Set<Object> getSingletons() {
+        return Collections.<Object>singleton(new MockResource());
+      }
+    });
+    assertThat(factory.newResolver().resolveWith(new Object[] { 1 },
+        Integer.class), is(equalTo("/context/api/resources/1")));
+  }
+
+  @Test
+  public void testNewResolverReturnsSharedResolver() throws Exception {
+    factory.init(new MockApplication());
+    final ResourcePathResolver resolver = factory.newResolver();
+    assertThat(factory.newResolver(), is(sameInstance(resolver)));
+  }
+
+  @Test
+  public void testRebuild() throws Exception {
+    factory.init(new MockApplication());
+    final ResourcePathResolver resolver = factory.newResolver();
+    final ResourcePathResolver rebuilt = factory.rebuild();
+    assertThat(rebuilt, is(not(sameInstance(resolver))));
+    assertThat(factory.newResolver(), is(sameInstance(rebuilt)));
+  }
+
+  @Test
+  public void testInitDiscardsSharedResolver() throws Exception {
+    factory.init(new MockApplication());
+    final ResourcePathResolver resolver = factory.newResolver();
+    factory.init("/other", Collections.<Class<?>>singleton(
+        MockResource.class));
+    assertThat(factory.newResolver(), is(not(sameInstance(resolver))));
+    assertThat(factory.newResolver().resolveWith(new Object[] { 1 },
+        Integer.class), is(equalTo("/other/resources/1")));
+  }
+
+  @Test
+  public void testResolveWithPathCache() throws Exception {
+    factory.setPathCacheSize(10);
+    factory.init(new MockApplication());
+    final ResourcePathResolver resolver = factory.newResolver();
+    final String path = resolver.resolveWith(new Object[] { 1 }, Integer.class);
+    assertThat(path, is(equalTo("/api/resources/1")));
+    assertThat(resolver.resolveWith(new Object[] { 1 }, Integer.class),
+        is(sameInstance(path)));
+    assertThat(resolver.resolveWith(new Object[] { 2 }, Integer.class),
+        is(equalTo("/api/resources/2")));
+  }
+
+  @Test
+  public void testResolveWithPathCacheAndChangedValue() throws Exception {
+    factory.setPathCacheSize(10);
+    factory.init(new MockApplication());
+    final ResourcePathResolver resolver = factory.newResolver();
+    final StringBuilder id = new StringBuilder("a");
+    assertThat(resolver.resolveWith(new Object[] { id }, Integer.class),
+        is(equalTo("/api/resources/a")));
+    id.replace(0, 1, "b");
+    assertThat(resolver.resolveWith(new Object[] { id }, Integer.class),
+        is(equalTo("/api/resources/b")));
+  }
+
+  @Test
+  public void testCloseUnregistersOnlyOwnMetrics() throws Exception {
+    final ApplicationResourcePathResolverFactory other =
+        new ApplicationResourcePathResolverFactory();
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    factory.setMetricsEnabled(true);
+    factory.init(new MockApplication());
+    other.setMetricsEnabled(true);
+    other.init(new MockApplication());
+    try {
+      factory.newResolver();
+      other.newResolver();
+      final ObjectName name = factory.metricsName();
+      assertThat(name, is(not(equalTo(other.metricsName()))));
+      assertThat(server.isRegistered(name), is(true));
+      assertThat(server.isRegistered(other.metricsName()), is(true));
+
+      factory.rebuild();
+      assertThat(factory.metricsName(), is(equalTo(name)));
+      assertThat(server.isRegistered(name), is(true));
+      assertThat(server.isRegistered(other.metricsName()), is(true));
+
+      factory.close();
+      assertThat(factory.metricsName(), is(nullValue()));
+      assertThat(server.isRegistered(name), is(false));
+      assertThat(server.isRegistered(other.metricsName()), is(true));
+    }
+    finally {
+      factory.close();
+      other.close();
+    }
+  }
+
+  @Test(expected = ResourceConfigurationException.class)
+  public void testInitWithoutApplicationPath() throws Exception {
+    factory.init(new Application());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testNewResolverWhenNotInitialized() throws Exception {
+    factory.newResolver();
+  }
+
+  @ApplicationPath("api")
+  public static class MockApplication extends Application {
+    @Override
+    public Set<Class<?>> getClasses() {
+      return Collections.<Class<?>>singleton(MockResource.class);
+    }
+  }
+
+  @Path("resources")
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class MockResource {
+    @GET
+    @Path("{id}")
+    @ReferencedBy(Integer.class)
+    public Object get() {
+      return null;
+    }
+  }
+
+}
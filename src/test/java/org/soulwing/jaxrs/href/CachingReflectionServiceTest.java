@@ -0,0 +1,126 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CachingReflectionService}.
+ *
+ * @author Carl Harris
+ */
+public class CachingReflectionServiceTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ReflectionService delegate;
+
+  private CachingReflectionService service;
+
+  @Before
+  public void setUp() throws Exception {
+    service = new CachingReflectionService(delegate);
+  }
+
+  @Test
+  public void testGetTypeAnnotation() throws Exception {
+    final Path path = AnnotationUtils.pathAnnotation("path");
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).getAnnotation(MockResource.class, Path.class);
+        will(returnValue(path));
+      }
+    });
+
+    assertThat(service.getAnnotation(MockResource.class, Path.class),
+        is(sameInstance(path)));
+    assertThat(service.getAnnotation(MockResource.class, Path.class),
+        is(sameInstance(path)));
+  }
+
+  @Test
+  public void testGetMethodAnnotationWhenAbsent() throws Exception {
+    final Method method = MockResource.class.getMethod("get");
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).getAnnotation(method, GET.class);
+        will(returnValue(null));
+      }
+    });
+
+    assertThat(service.getAnnotation(method, GET.class), is(nullValue()));
+    assertThat(service.getAnnotation(method, GET.class), is(nullValue()));
+  }
+
+  @Test
+  public void testGetMethods() throws Exception {
+    final Method[] methods = MockResource.class.getMethods();
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).getMethods(MockResource.class);
+        will(returnValue(methods));
+      }
+    });
+
+    assertThat(service.getMethods(MockResource.class),
+        is(sameInstance(methods)));
+    assertThat(service.getMethods(MockResource.class),
+        is(sameInstance(methods)));
+  }
+
+  @Test
+  public void testGetSubTypesOf() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).getSubTypesOf(Object.class);
+        will(returnValue(Collections.singleton(MockResource.class)));
+      }
+    });
+
+    service.getSubTypesOf(Object.class);
+    assertThat(service.getSubTypesOf(Object.class),
+        contains((Object) MockResource.class));
+  }
+
+  public static class MockResource {
+    public Object get() {
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link ClassFileScanner}.
+ *
+ * @author Carl Harris
+ */
+public class ClassFileScannerTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final ClassFileScanner scanner = new ClassFileScanner(
+      Arrays.<Class<?>>asList(Path.class, ReferencedBy.class), 2);
+
+  @Test
+  public void testAnnotatedClassName() throws Exception {
+    assertThat(scanner.annotatedClassName(classFile(MockResource.class)),
+        is(equalTo(MockResource.class.getName())));
+    assertThat(scanner.annotatedClassName(classFile(MockSubResource.class)),
+        is(equalTo(MockSubResource.class.getName())));
+  }
+
+  @Test
+  public void testAnnotatedClassNameWhenMethodAnnotated() throws Exception {
+    assertThat(scanner.annotatedClassName(classFile(MockLocator.class)),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testAnnotatedClassNameWhenNotMentioned() throws Exception {
+    assertThat(scanner.annotatedClassName(classFile(Object.class)),
+        is(nullValue()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAnnotatedClassNameWhenNotClassFile() throws Exception {
+    scanner.annotatedClassName(ByteBuffer.wrap(new byte[8]));
+  }
+
+  @Test
+  public void testScanJar() throws Exception {
+    final File jar = folder.newFile("resources.jar");
+    try (ZipOutputStream outputStream =
+        new ZipOutputStream(new FileOutputStream(jar))) {
+      for (Class<?> type : Arrays.asList(MockLocator.class,
+          MockResource.class)) {
+        outputStream.putNextEntry(new ZipEntry(
+            type.getName().replace('.', '/') + ".class"));
+        outputStream.write(classFile(type).array());
+        outputStream.closeEntry();
+      }
+    }
+    assertThat(scanner.scan(Collections.singletonList(jar.toURI().toURL())),
+        contains(MockResource.class.getName()));
+  }
+
+  @Test
+  public void testScanJarWithFilter() throws Exception {
+    final File jar = folder.newFile("resources.jar");
+    try (ZipOutputStream outputStream =
+        new ZipOutputStream(new FileOutputStream(jar))) {
+      outputStream.putNextEntry(new ZipEntry(
+          MockResource.class.getName().replace('.', '/') + ".class"));
+      outputStream.write(classFile(MockResource.class).array());
+      outputStream.closeEntry();
+    }
+    final ClassFileScanner excludingPackage = new ClassFileScanner(
+        Collections.<Class<?>>singleton(Path.class), 1,
+        new ScanFilter().excludePackages("org.soulwing"));
+    final ClassFileScanner excludingJar = new ClassFileScanner(
+        Collections.<Class<?>>singleton(Path.class), 1,
+        new ScanFilter().excludeJars("resources*.jar"));
+    assertThat(excludingPackage.scan(Collections.singletonList(
+        jar.toURI().toURL())), is(empty()));
+    assertThat(excludingJar.scan(Collections.singletonList(
+        jar.toURI().toURL())), is(empty()));
+  }
+
+  @Test
+  public void testScanWhenJarIsCorrupt() throws Exception {
+    final File corrupt = folder.newFile("corrupt.jar");
+    try (FileOutputStream outputStream = new FileOutputStream(corrupt)) {
+      outputStream.write(new byte[] { 'P', 'K', 0, 0 });
+    }
+    final File jar = folder.newFile("resources.jar");
+    try (ZipOutputStream outputStream =
+        new ZipOutputStream(new FileOutputStream(jar))) {
+      outputStream.putNextEntry(new ZipEntry(
+          MockResource.class.getName().replace('.', '/') + ".class"));
+      outputStream.write(classFile(MockResource.class).array());
+      outputStream.closeEntry();
+    }
+    assertThat(scanner.scan(Arrays.asList(corrupt.toURI().toURL(),
+        jar.toURI().toURL())), contains(MockResource.class.getName()));
+  }
+
+  @Test
+  public void testScanJarWithIndex() throws Exception {
+    final File jar = folder.newFile("resources.jar");
+    try (ZipOutputStream outputStream =
+        new ZipOutputStream(new FileOutputStream(jar))) {
+      outputStream.putNextEntry(new ZipEntry(ResourceIndex.RESOURCE_NAME));
+      outputStream.write((MockSubResource.class.getName() + "\n")
+          .getBytes(StandardCharsets.UTF_8));
+      outputStream.closeEntry();
+      outputStream.putNextEntry(new ZipEntry(
+          MockResource.class.getName().replace('.', '/') + ".class"));
+      outputStream.write(classFile(MockResource.class).array());
+      outputStream.closeEntry();
+    }
+    assertThat(scanner.scan(Collections.singletonList(jar.toURI().toURL())),
+        contains(MockSubResource.class.getName()));
+  }
+
+  private static ByteBuffer classFile(Class<?> type) throws IOException {
+    try (InputStream inputStream = type.getResourceAsStream(
+        "/" + type.getName().replace('.', '/') + ".class")) {
+      final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      final byte[] buf = new byte[4096];
+      int count;
+      while ((count = inputStream.read(buf)) != -1) {
+        outputStream.write(buf, 0, count);
+      }
+      return ByteBuffer.wrap(outputStream.toByteArray());
+    }
+  }
+
+  @Path("resource")
+  @Deprecated
+  public static class MockResource {
+  }
+
+  @ReferencedBy(value = Long.class, descriptor = false)
+  public static class MockSubResource {
+  }
+
+  public static class MockLocator {
+    @GET
+    @Path("sub")
+    public MockSubResource sub() {
+      return null;
+    }
+  }
+
+}
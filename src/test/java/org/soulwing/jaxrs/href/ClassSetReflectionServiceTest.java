@@ -0,0 +1,64 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import java.util.Arrays;
+
+import javax.ws.rs.Path;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ClassSetReflectionService}.
+ *
+ * @author Carl Harris
+ */
+public class ClassSetReflectionServiceTest {
+
+  private final ClassSetReflectionService service =
+      new ClassSetReflectionService(Arrays.<Class<?>>asList(
+          RootResource.class, SubResource.class, SubResourceImpl.class));
+
+  @Test
+  public void testGetTypesAnnotatedWith() throws Exception {
+    assertThat(service.getTypesAnnotatedWith(Path.class),
+        contains((Class) RootResource.class));
+  }
+
+  @Test
+  public void testGetSubTypesOf() throws Exception {
+    assertThat(service.getSubTypesOf(SubResource.class),
+        contains((Class) SubResourceImpl.class));
+  }
+
+  @Path("/root")
+  public static class RootResource {
+  }
+
+  public interface SubResource {
+  }
+
+  @ReferencedBy(Object.class)
+  public static class SubResourceImpl implements SubResource {
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link ClasspathFingerprint}.
+ *
+ * @author Carl Harris
+ */
+public class ClasspathFingerprintTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testFingerprintChangesWithContent() throws Exception {
+    final File file = folder.newFile("Resource.class");
+    final List<URL> urls =
+        Collections.singletonList(folder.getRoot().toURI().toURL());
+    final byte[] fingerprint = ClasspathFingerprint.of("/app", urls);
+    assertThat(ClasspathFingerprint.of("/app", urls),
+        is(equalTo(fingerprint)));
+    Files.write(file.toPath(), new byte[] { 1 });
+    assertThat(ClasspathFingerprint.of("/app", urls),
+        is(not(equalTo(fingerprint))));
+  }
+
+  @Test
+  public void testFingerprintChangesWithQualifier() throws Exception {
+    final List<URL> urls =
+        Collections.singletonList(folder.getRoot().toURI().toURL());
+    assertThat(ClasspathFingerprint.of("/app", urls),
+        is(not(equalTo(ClasspathFingerprint.of("/other", urls)))));
+  }
+
+  @Test
+  public void testFingerprintWhenNotFileUrl() throws Exception {
+    assertThat(ClasspathFingerprint.of("/app", Collections.singletonList(
+        new URL("http://localhost/lib.jar"))), is(nullValue()));
+  }
+
+}
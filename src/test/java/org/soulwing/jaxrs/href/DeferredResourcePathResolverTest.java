@@ -0,0 +1,94 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DeferredResourcePathResolver}.
+ *
+ * @author Carl Harris
+ */
+public class DeferredResourcePathResolverTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ResourcePathResolver delegate;
+
+  private final CompletableFuture<ResourcePathResolver> future =
+      new CompletableFuture<>();
+
+  private final DeferredResourcePathResolver resolver =
+      new DeferredResourcePathResolver(future, 10, TimeUnit.MILLISECONDS);
+
+  @Test
+  public void testResolveWhenComplete() throws Exception {
+    final Object[] values = { 1 };
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).resolveWith(values, Integer.class);
+        will(returnValue("/integers/1"));
+      }
+    });
+
+    future.complete(delegate);
+    assertThat(resolver.resolveWith(values, Integer.class),
+        is(equalTo("/integers/1")));
+  }
+
+  @Test
+  public void testDelegateRetainedAfterCompletion() throws Exception {
+    future.complete(delegate);
+    assertThat(resolver.delegate(), is(sameInstance(delegate)));
+    future.obtrudeValue(null);
+    assertThat(resolver.delegate(), is(sameInstance(delegate)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testResolveWhenTimedOut() throws Exception {
+    resolver.resolveWith(new Object[] { 1 }, Integer.class);
+  }
+
+  @Test(expected = ResourceConfigurationException.class)
+  public void testResolveWhenConfigurationError() throws Exception {
+    future.completeExceptionally(new ResourceConfigurationException("test"));
+    resolver.resolveWith(new Object[] { 1 }, Integer.class);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testResolveWhenCancelled() throws Exception {
+    future.cancel(false);
+    resolver.resolveWith(new Object[] { 1 }, Integer.class);
+  }
+
+}
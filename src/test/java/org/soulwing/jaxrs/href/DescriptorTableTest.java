@@ -0,0 +1,120 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link DescriptorTable}.
+ *
+ * @author Carl Harris
+ */
+public class DescriptorTableTest {
+
+  private static final byte[] FINGERPRINT = new byte[] { 1, 2, 3, 4 };
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final List<AbstractResourceDescriptor> descriptors = Arrays.asList(
+      descriptor("/integers/{id}", Integer.class),
+      descriptor("/integers/{id}/longs", Integer.class, Long.class),
+      descriptor("/root"));
+
+  @Test
+  public void testEncodeAndDecode() throws Exception {
+    final DescriptorTable table = DescriptorTable.of(
+        DescriptorTable.encode(FINGERPRINT, descriptors));
+    assertThat(table.size(), is(equalTo(3)));
+    assertThat(Arrays.copyOf(table.fingerprint(), FINGERPRINT.length),
+        is(equalTo(FINGERPRINT)));
+    assertThat(table.resourceType(1), is(equalTo("method")));
+    assertThat(table.resourceName(1), is(equalTo("Mock.get")));
+    assertThat(table.path(1), is(equalTo("/integers/{id}/longs")));
+    assertThat(table.templateResolver(1), is(equalTo(
+        NamedVariablePathTemplateResolver.class.getName())));
+    assertThat(table.modelPath(1), is(arrayContaining(
+        Integer.class.getName(), Long.class.getName())));
+    assertThat(table.modelPath(2), is(emptyArray()));
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    final File file = new File(folder.getRoot(), "cache/descriptors");
+    DescriptorTable.write(file, FINGERPRINT, descriptors);
+    final List<ResourceDescriptor> result = DescriptorTable.read(file)
+        .toDescriptors(getClass().getClassLoader());
+    assertThat(result.size(), is(equalTo(descriptors.size())));
+    for (int i = 0; i < result.size(); i++) {
+      assertThat(result.get(i).path(),
+          is(equalTo(descriptors.get(i).path())));
+      assertThat(result.get(i).referencedBy(),
+          is(equalTo(descriptors.get(i).referencedBy())));
+      assertThat(result.get(i).templateResolver(),
+          is(instanceOf(NamedVariablePathTemplateResolver.class)));
+    }
+  }
+
+  @Test
+  public void testLookup() throws Exception {
+    final DescriptorTable table = DescriptorTable.of(
+        DescriptorTable.encode(FINGERPRINT, descriptors));
+    final int entry = table.lookup(DescriptorTable.hash(
+        new Class<?>[] { Integer.class, Long.class }));
+    assertThat(table.lookupRecord(entry), is(equalTo(1)));
+    assertThat(table.lookup(DescriptorTable.hash(
+        new Class<?>[] { Long.class })), is(equalTo(-1)));
+  }
+
+  @Test
+  public void testWriteAndMap() throws Exception {
+    final File file = new File(folder.getRoot(), "descriptors");
+    DescriptorTable.write(file, FINGERPRINT, descriptors);
+    final DescriptorTable table = DescriptorTable.map(file);
+    assertThat(table.size(), is(equalTo(3)));
+    assertThat(table.path(0), is(equalTo("/integers/{id}")));
+  }
+
+  @Test(expected = IOException.class)
+  public void testOfWhenNotTable() throws Exception {
+    DescriptorTable.of(ByteBuffer.wrap(new byte[DescriptorTable.HEADER_SIZE]));
+  }
+
+  private static AbstractResourceDescriptor descriptor(String path,
+      Class<?>... modelPath) {
+    return new PrecompiledResourceDescriptor("method", "Mock.get", path,
+        ModelPath.with(modelPath), new NamedVariablePathTemplateResolver());
+  }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ExpandedPathCache}.
+ *
+ * @author Carl Harris
+ */
+public class ExpandedPathCacheTest {
+
+  private static final PathTemplate TEMPLATE =
+      PathTemplate.compile("/customers/{id}");
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ResourceDescriptor descriptor;
+
+  @Test
+  public void testExpandWhenCached() throws Exception {
+    final ExpandedPathCache cache = new ExpandedPathCache(1,
+        PathCacheEvictionPolicy.LEAST_RECENTLY_USED);
+    final String path = cache.expand(descriptor, TEMPLATE, new Object[] { 1 });
+    assertThat(path, is(equalTo("/customers/1")));
+    assertThat(cache.expand(descriptor, TEMPLATE, new Object[] { 1 }),
+        is(sameInstance(path)));
+  }
+
+  @Test
+  public void testExpandEvictsLeastRecentlyUsed() throws Exception {
+    final ExpandedPathCache cache = new ExpandedPathCache(1,
+        PathCacheEvictionPolicy.LEAST_RECENTLY_USED);
+    final String path = cache.expand(descriptor, TEMPLATE, new Object[] { 1 });
+    cache.expand(descriptor, TEMPLATE, new Object[] { 2 });
+    assertThat(cache.size(), is(equalTo(1)));
+    assertThat(cache.expand(descriptor, TEMPLATE, new Object[] { 1 }),
+        is(not(sameInstance(path))));
+  }
+
+  @Test
+  public void testExpandEvictsFirstIn() throws Exception {
+    final ExpandedPathCache cache = new ExpandedPathCache(2,
+        PathCacheEvictionPolicy.FIRST_IN_FIRST_OUT);
+    final String path1 = cache.expand(descriptor, TEMPLATE, new Object[] { 1 });
+    cache.expand(descriptor, TEMPLATE, new Object[] { 2 });
+    cache.expand(descriptor, TEMPLATE, new Object[] { 1 });
+    cache.expand(descriptor, TEMPLATE, new Object[] { 3 });
+    assertThat(cache.size(), is(equalTo(2)));
+    assertThat(cache.expand(descriptor, TEMPLATE, new Object[] { 1 }),
+        is(not(sameInstance(path1))));
+  }
+
+  @Test
+  public void testExpandWhenCachedValueIsChanged() throws Exception {
+    final ExpandedPathCache cache = new ExpandedPathCache(2,
+        PathCacheEvictionPolicy.LEAST_RECENTLY_USED);
+    final MutableId id = new MutableId(1);
+    final String path = cache.expand(descriptor, TEMPLATE, new Object[] { id });
+    id.value = 2;
+    assertThat(cache.expand(descriptor, TEMPLATE, new Object[] { id }),
+        is(equalTo("/customers/2")));
+    assertThat(cache.expand(descriptor, TEMPLATE,
+        new Object[] { new MutableId(1) }), is(sameInstance(path)));
+  }
+
+  @Test
+  public void testImmutableValues() throws Exception {
+    final Object[] values = { "a", 1L, 2, null, Thread.State.NEW };
+    assertThat(ExpandedPathCache.immutableValues(values),
+        is(sameInstance(values)));
+    final Object[] mutable = { 1L, new MutableId(3) };
+    final Object[] result = ExpandedPathCache.immutableValues(mutable);
+    assertThat(result, is(not(sameInstance(mutable))));
+    assertThat(result[0], is(sameInstance(mutable[0])));
+    assertThat(result[1], is(equalTo((Object) "3")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCreateWithNonPositiveSize() throws Exception {
+    new ExpandedPathCache(0, PathCacheEvictionPolicy.LEAST_RECENTLY_USED);
+  }
+
+  private static class MutableId {
+
+    long value;
+
+    MutableId(long value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return (int) value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof MutableId && ((MutableId) obj).value == value;
+    }
+
+    @Override
+    public String toString() {
+      return Long.toString(value);
+    }
+
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FlightRecorderEvents}.
+ *
+ * @author Carl Harris
+ */
+public class FlightRecorderEventsTest {
+
+  @Test
+  public void testBeginWhenNotRecording() throws Exception {
+    assertThat(FlightRecorderEvents.beginScan("/api", 1),
+        is(sameInstance(FlightRecording.NONE)));
+    assertThat(FlightRecorderEvents.beginIntrospect(Object.class, "/api"),
+        is(sameInstance(FlightRecording.NONE)));
+    assertThat(FlightRecorderEvents.beginValidate("/api"),
+        is(sameInstance(FlightRecording.NONE)));
+    assertThat(FlightRecorderEvents.beginResolve(),
+        is(sameInstance(ResolveRecording.NONE)));
+  }
+
+  @Test
+  public void testCompleteNone() throws Exception {
+    final ResolveRecording recording = ResolveRecording.NONE;
+    recording.matched(ModelPath.with(Integer.class), 0, null);
+    recording.complete();
+  }
+
+}
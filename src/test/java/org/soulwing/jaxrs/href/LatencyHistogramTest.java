@@ -0,0 +1,85 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ *
+ * @author Carl Harris
+ */
+public class LatencyHistogramTest {
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  public void testBucketsAreContiguous() throws Exception {
+    for (long value = 0; value < 100000; value++) {
+      final int index = LatencyHistogram.index(value);
+      assertThat(LatencyHistogram.upperBound(index),
+          is(greaterThanOrEqualTo(value)));
+      if (index > 0) {
+        assertThat(LatencyHistogram.upperBound(index - 1),
+            is(lessThanOrEqualTo(value - 1)));
+      }
+    }
+    assertThat(LatencyHistogram.upperBound(
+        LatencyHistogram.index(Long.MAX_VALUE)),
+        is(equalTo(Long.MAX_VALUE)));
+  }
+
+  @Test
+  public void testPercentileWhenEmpty() throws Exception {
+    assertThat(histogram.percentile(50), is(equalTo(0L)));
+    assertThat(histogram.max(), is(equalTo(0L)));
+  }
+
+  @Test
+  public void testPercentiles() throws Exception {
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+    assertThat(histogram.count(), is(equalTo(1000L)));
+    assertWithinError(histogram.percentile(50), 500000L);
+    assertWithinError(histogram.percentile(90), 900000L);
+    assertThat(histogram.percentile(100), is(equalTo(1000000L)));
+    assertThat(histogram.max(), is(equalTo(1000000L)));
+  }
+
+  @Test
+  public void testReset() throws Exception {
+    histogram.record(42);
+    histogram.reset();
+    assertThat(histogram.count(), is(equalTo(0L)));
+    assertThat(histogram.max(), is(equalTo(0L)));
+  }
+
+  private static void assertWithinError(long actual, long expected) {
+    assertThat(actual, is(greaterThanOrEqualTo(expected)));
+    assertThat(actual, is(lessThanOrEqualTo(expected + expected / 8)));
+  }
+
+}
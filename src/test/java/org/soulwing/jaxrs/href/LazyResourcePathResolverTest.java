@@ -0,0 +1,230 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LazyResourcePathResolver}.
+ *
+ * @author Carl Harris
+ */
+public class LazyResourcePathResolverTest {
+
+  @Test
+  public void testNothingIntrospectedInitially() throws Exception {
+    final LazyResourcePathResolver resolver = newResolver(
+        IntegerResource.class, StringResource.class);
+    assertThat(resolver.pendingCount(), is(equalTo(2)));
+    assertThat(resolver.descriptors(), is(empty()));
+  }
+
+  @Test
+  public void testIntrospectsOnlyMatchingSubtree() throws Exception {
+    final LazyResourcePathResolver resolver = newResolver(
+        IntegerResource.class, StringResource.class);
+    assertThat(resolver.resolveWith(new Object[] { 1 }, Integer.class),
+        is(equalTo("/api/integers/1")));
+    assertThat(resolver.pendingCount(), is(equalTo(1)));
+    assertThat(resolver.descriptors(), hasSize(2));
+    assertThat(resolver.resolveWith(new Object[] { 1, 2L },
+        Integer.class, Long.class), is(equalTo("/api/integers/1/longs/2")));
+    assertThat(resolver.pendingCount(), is(equalTo(1)));
+    assertThat(resolver.descriptors(), hasSize(2));
+  }
+
+  @Test
+  public void testIndexesUnreferencedRootByMethodReferences()
+      throws Exception {
+    final LazyResourcePathResolver resolver = newResolver(
+        IntegerResource.class, OtherResource.class);
+    assertThat(resolver.resolveWith(new Object[] { 1 }, Integer.class),
+        is(equalTo("/api/integers/1")));
+    assertThat(resolver.pendingCount(), is(equalTo(1)));
+    assertThat(resolver.resolveWith(new Object[] { 3 }, Short.class),
+        is(equalTo("/api/others/3")));
+    assertThat(resolver.pendingCount(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testIntrospectsRootWithUnreferencedLocatorOnFirstResolve()
+      throws Exception {
+    final LazyResourcePathResolver resolver = newResolver(
+        IntegerResource.class, LocatorResource.class);
+    assertThat(resolver.resolveWith(new Object[] { 1 }, Integer.class),
+        is(equalTo("/api/integers/1")));
+    assertThat(resolver.pendingCount(), is(equalTo(0)));
+    assertThat(resolver.resolveWith(new Object[] { 3 }, Byte.class),
+        is(equalTo("/api/locators/3")));
+  }
+
+  @Test
+  public void testExpandsAllMatchingRootsTogether() throws Exception {
+    final LazyResourcePathResolver resolver = newResolver(
+        IntegerResource.class, IntegerByteResource.class,
+        StringResource.class);
+    assertThat(resolver.resolveWith(new Object[] { 1, 2 },
+        Integer.class, Byte.class), is(equalTo("/api/bytes/1/2")));
+    assertThat(resolver.pendingCount(), is(equalTo(1)));
+    assertThat(resolver.descriptors(), hasSize(3));
+    assertThat(resolver.resolveWith(new Object[] { 1 }, Integer.class),
+        is(equalTo("/api/integers/1")));
+  }
+
+  @Test
+  public void testWarmUpIntrospectsAllSubtrees() throws Exception {
+    final LazyResourcePathResolver resolver = newResolver(
+        IntegerResource.class, StringResource.class);
+    resolver.warmUp();
+    assertThat(resolver.pendingCount(), is(equalTo(0)));
+    assertThat(resolver.descriptors(), hasSize(3));
+  }
+
+  @Test(expected = ResourceConfigurationException.class)
+  public void testWarmUpWhenConfigurationError() throws Exception {
+    newResolver(IntegerResource.class, DuplicateIntegerResource.class,
+        StringResource.class).warmUp();
+  }
+
+  @Test(expected = ResourceNotFoundException.class)
+  public void testResolveWhenNoSubtreeMatches() throws Exception {
+    final LazyResourcePathResolver resolver = newResolver(
+        IntegerResource.class, StringResource.class);
+    try {
+      resolver.resolveWith(new Object[] { 1 }, Long.class);
+    }
+    finally {
+      assertThat(resolver.pendingCount(), is(equalTo(2)));
+    }
+  }
+
+  @Test
+  public void testDuplicateReportedOnExpansion() throws Exception {
+    final LazyResourcePathResolver resolver = newResolver(
+        IntegerResource.class, DuplicateIntegerResource.class);
+    for (int i = 0; i < 2; i++) {
+      try {
+        resolver.resolveWith(new Object[] { 1 }, Integer.class);
+        throw new AssertionError("expected ResourceConfigurationException");
+      }
+      catch (ResourceConfigurationException ex) {
+        assertThat(resolver.pendingCount(), is(equalTo(1)));
+      }
+    }
+  }
+
+  private static LazyResourcePathResolver newResolver(Class<?>... types) {
+    return new LazyResourcePathResolver("/api",
+        new ClassSetReflectionService(Arrays.asList(types)),
+        new ReflectionResourceDiscoveryService(), null);
+  }
+
+  @Path("integers")
+  @ReferencedBy(value = Integer.class, descriptor = false)
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class IntegerResource {
+    @GET
+    @Path("{id}")
+    @ReferencedBy({})
+    public Object get() {
+      return null;
+    }
+
+    @GET
+    @Path("{id}/longs/{lid}")
+    @ReferencedBy(Long.class)
+    public Object getLong() {
+      return null;
+    }
+  }
+
+  @Path("duplicates")
+  @ReferencedBy(value = Integer.class, descriptor = false)
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class DuplicateIntegerResource {
+    @GET
+    @Path("{id}")
+    @ReferencedBy({})
+    public Object get() {
+      return null;
+    }
+  }
+
+  @Path("strings")
+  @ReferencedBy(value = String.class, descriptor = false)
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class StringResource {
+    @GET
+    @ReferencedBy({})
+    public Object get() {
+      return null;
+    }
+  }
+
+  @Path("others")
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class OtherResource {
+    @GET
+    @Path("{id}")
+    @ReferencedBy(Short.class)
+    public Object get() {
+      return null;
+    }
+  }
+
+  @Path("bytes")
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class IntegerByteResource {
+    @GET
+    @Path("{id}/{bid}")
+    @ReferencedBy({ Integer.class, Byte.class })
+    public Object get() {
+      return null;
+    }
+  }
+
+  @Path("locators")
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class LocatorResource {
+    @Path("{id}")
+    public ByteResource getByte() {
+      return null;
+    }
+  }
+
+  public static class ByteResource {
+    @GET
+    @ReferencedBy(Byte.class)
+    public Object get() {
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.soulwing.jaxrs.href.PathTemplateContextMap.Entry;
+
+/**
+ * Unit tests for {@link MappedResourcePathResolver}.
+ *
+ * @author Carl Harris
+ */
+public class MappedResourcePathResolverTest {
+
+  private final MappedResourcePathResolver resolver =
+      new MappedResourcePathResolver(table(), getClass().getClassLoader());
+
+  @Test
+  public void testResolveWithLookup() throws Exception {
+    assertThat(resolver.resolve(PathTemplateContextMap.with(
+        Entry.with("id", 1)), Integer.class),
+        is(equalTo("/integers/1")));
+  }
+
+  @Test
+  public void testResolveWithValues() throws Exception {
+    assertThat(resolver.resolveWith(new Object[] { 1, 2L },
+        Integer.class, Long.class),
+        is(equalTo("/integers/1/longs/2")));
+  }
+
+  @Test
+  public void testResolveWithoutLookup() throws Exception {
+    assertThat(resolver.resolveWith(new Object[] { 2 }, Short.class),
+        is(equalTo("/any/2")));
+  }
+
+  @Test
+  public void testWarmUp() throws Exception {
+    assertThat(resolver.warmUp(), is(greaterThanOrEqualTo(0L)));
+    assertThat(resolver.resolveWith(new Object[] { 1 }, Integer.class),
+        is(equalTo("/integers/1")));
+  }
+
+  @Test
+  public void testResolveWithPathCache() throws Exception {
+    final ExpandedPathCache pathCache =
+        new ExpandedPathCache(10, PathCacheEvictionPolicy.LEAST_RECENTLY_USED);
+    final MappedResourcePathResolver resolver =
+        new MappedResourcePathResolver(table(), getClass().getClassLoader(),
+            pathCache, ResolutionListener.NONE);
+    for (int i = 0; i < 2; i++) {
+      assertThat(resolver.resolveWith(new Object[] { 1 }, Integer.class),
+          is(equalTo("/integers/1")));
+      assertThat(resolver.resolveWith(new Object[] { 2 }, Short.class),
+          is(equalTo("/any/2")));
+    }
+    assertThat(pathCache.missCount(), is(equalTo(2L)));
+    assertThat(pathCache.hitCount(), is(equalTo(2L)));
+  }
+
+  @Test(expected = ResourceNotFoundException.class)
+  public void testResolveWhenNotFound() throws Exception {
+    resolver.resolveWith(new Object[0], Integer.class, Integer.class);
+  }
+
+  private static DescriptorTable table() {
+    try {
+      return DescriptorTable.of(DescriptorTable.encode(new byte[0],
+          Arrays.asList(
+              descriptor("/integers/{id}", Integer.class),
+              descriptor("/integers/{id}/longs/{lid}",
+                  Integer.class, Long.class),
+              descriptor("/any/{id}", AnyModel.class))));
+    }
+    catch (IOException ex) {
+      throw new AssertionError(ex);
+    }
+  }
+
+  private static AbstractResourceDescriptor descriptor(String path,
+      Class<?>... modelPath) {
+    return new PrecompiledResourceDescriptor("method", "Mock.get", path,
+        ModelPath.with(modelPath), new NamedVariablePathTemplateResolver());
+  }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MemoizingResourcePathResolver}.
+ *
+ * @author Carl Harris
+ */
+public class MemoizingResourcePathResolverTest {
+
+  private static final String PATH = "path";
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ResourcePathResolver delegate;
+
+  private MemoizingResourcePathResolver resolver;
+
+  @Before
+  public void setUp() throws Exception {
+    resolver = new MemoizingResourcePathResolver(delegate);
+  }
+
+  @Test
+  public void testResolveWithSameObjects() throws Exception {
+    final Object model = new Object();
+    final PathTemplateContext pathContext1 = PathTemplateContextMap.with(model);
+    final PathTemplateContext pathContext2 = PathTemplateContextMap.with(model);
+
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).resolve(pathContext1, Object.class);
+        will(returnValue(PATH));
+      }
+    });
+
+    assertThat(resolver.resolve(pathContext1, Object.class),
+        is(equalTo(PATH)));
+    assertThat(resolver.resolve(pathContext2, Object.class),
+        is(equalTo(PATH)));
+  }
+
+  @Test
+  public void testResolveWithDifferentObjects() throws Exception {
+    final PathTemplateContext pathContext1 =
+        PathTemplateContextMap.with(new Object());
+    final PathTemplateContext pathContext2 =
+        PathTemplateContextMap.with(new Object());
+
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).resolve(pathContext1, Object.class);
+        will(returnValue(PATH));
+        oneOf(delegate).resolve(pathContext2, Object.class);
+        will(returnValue(PATH));
+      }
+    });
+
+    resolver.resolve(pathContext1, Object.class);
+    resolver.resolve(pathContext2, Object.class);
+  }
+
+  @Test
+  public void testResolveWithSameValues() throws Exception {
+    final Object[] values = { new Object() };
+
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).resolveWith(values, Object.class);
+        will(returnValue(PATH));
+      }
+    });
+
+    assertThat(resolver.resolveWith(values, Object.class), is(equalTo(PATH)));
+    assertThat(resolver.resolveWith(values.clone(), Object.class),
+        is(equalTo(PATH)));
+  }
+
+  @Test
+  public void testResolveWithEqualValues() throws Exception {
+    final Object[] values = { new Long(1000L), "id" };
+
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).resolveWith(values, Object.class);
+        will(returnValue(PATH));
+      }
+    });
+
+    assertThat(resolver.resolveWith(values, Object.class), is(equalTo(PATH)));
+    assertThat(resolver.resolveWith(new Object[] { new Long(1000L),
+        new String("id") }, Object.class), is(equalTo(PATH)));
+  }
+
+  @Test
+  public void testResolveWithDifferentValues() throws Exception {
+    final Object[] values1 = { 1L };
+    final Object[] values2 = { 2L };
+
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).resolveWith(values1, Object.class);
+        will(returnValue(PATH));
+        oneOf(delegate).resolveWith(values2, Object.class);
+        will(returnValue(PATH));
+      }
+    });
+
+    resolver.resolveWith(values1, Object.class);
+    resolver.resolveWith(values2, Object.class);
+  }
+
+  @Test
+  public void testResolveAfterClear() throws Exception {
+    final PathTemplateContext pathContext =
+        PathTemplateContextMap.with(new Object());
+
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(delegate).resolve(pathContext, Object.class);
+        will(returnValue(PATH));
+      }
+    });
+
+    resolver.resolve(pathContext, Object.class);
+    resolver.clear();
+    resolver.resolve(pathContext, Object.class);
+  }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MemoizingResourceTypeIntrospector}.
+ *
+ * @author Carl Harris
+ */
+public class MemoizingResourceTypeIntrospectorTest {
+
+  private static final String APPLICATION_PATH = "/app";
+
+  private final CountingReflectionService reflectionService =
+      new CountingReflectionService();
+
+  @Test
+  public void testDescribeGraftsSubtree() throws Exception {
+    final List<String> expected =
+        discover(new ReflectionResourceTypeIntrospector());
+    reflectionService.subResourceMethodsCount = 0;
+
+    final List<String> actual =
+        discover(new MemoizingResourceTypeIntrospector());
+
+    assertThat(actual, is(equalTo(expected)));
+    assertThat(actual.size(), is(equalTo(5)));
+    assertThat(reflectionService.subResourceMethodsCount, is(equalTo(1)));
+  }
+
+  @Test
+  public void testDescribeWhenCyclic() throws Exception {
+    try {
+      new ReflectionResourceDiscoveryService(1, 32).discoverResources(
+          APPLICATION_PATH, new ClassSetReflectionService(
+              Collections.<Class<?>>singleton(MockCyclicResource.class)),
+          new SimpleResourcePathResolver());
+      throw new AssertionError("expected ResourceConfigurationException");
+    }
+    catch (ResourceConfigurationException ex) {
+      assertThat(ex.getMessage(), containsString(
+          "MockCyclicResource [] -> MockCycleA [] -> MockCycleB []"
+              + " -> MockCycleA []"));
+    }
+  }
+
+  @Test
+  public void testDescribeWhenTooDeep() throws Exception {
+    try {
+      new ReflectionResourceDiscoveryService(1, 3).discoverResources(
+          APPLICATION_PATH, new ClassSetReflectionService(
+              Collections.<Class<?>>singleton(MockFolderResource.class)),
+          new SimpleResourcePathResolver());
+      throw new AssertionError("expected ResourceConfigurationException");
+    }
+    catch (ResourceConfigurationException ex) {
+      assertThat(ex.getMessage(), containsString("maximum depth of 3"));
+      assertThat(ex.getMessage(), containsString("MockFolder [Long, Long]"));
+    }
+  }
+
+  @Test
+  public void testJoin() throws Exception {
+    assertThat(MemoizingResourceTypeIntrospector.join("/a", ""),
+        is(equalTo("/a")));
+    assertThat(MemoizingResourceTypeIntrospector.join("/a", "/b"),
+        is(equalTo("/a/b")));
+    assertThat(MemoizingResourceTypeIntrospector.join("/a/", "/b"),
+        is(equalTo("/a/b")));
+    assertThat(MemoizingResourceTypeIntrospector.join("/a", "b"),
+        is(equalTo("/a/b")));
+  }
+
+  private List<String> discover(ResourceTypeIntrospector typeIntrospector) {
+    final SimpleResourcePathResolver resolver =
+        new SimpleResourcePathResolver();
+    new ReflectionResourceDiscoveryService(typeIntrospector)
+        .discoverResources(APPLICATION_PATH, reflectionService, resolver);
+    final List<String> descriptors = new ArrayList<>();
+    for (ResourceDescriptor descriptor : resolver.descriptors()) {
+      descriptors.add(descriptor.toString());
+    }
+    Collections.sort(descriptors);
+    return descriptors;
+  }
+
+  static class CountingReflectionService extends ClassSetReflectionService {
+
+    int subResourceMethodsCount;
+
+    CountingReflectionService() {
+      super(Arrays.<Class<?>>asList(MockResourceA.class, MockResourceB.class));
+    }
+
+    @Override
+    public Method[] getMethods(Class<?> type) {
+      if (type == MockSubResource.class) {
+        subResourceMethodsCount++;
+      }
+      return super.getMethods(type);
+    }
+
+  }
+
+  @Path("a")
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class MockResourceA {
+
+    @GET
+    @ReferencedBy(Integer.class)
+    public Object get() {
+      return null;
+    }
+
+    @Path("{id}/subs")
+    @ReferencedBy(Integer.class)
+    public MockSubResource subs() {
+      return null;
+    }
+
+  }
+
+  @Path("b")
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class MockResourceB {
+
+    @Path("{id}/subs")
+    @ReferencedBy(Byte.class)
+    public MockSubResource subs() {
+      return null;
+    }
+
+  }
+
+  public static class MockSubResource {
+
+    @GET
+    @ReferencedBy(Long.class)
+    public Object get() {
+      return null;
+    }
+
+    @Path("items/{itemId}")
+    public MockItemResource item() {
+      return null;
+    }
+
+  }
+
+  @Path("cyclic")
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class MockCyclicResource {
+
+    @Path("a")
+    public MockCycleA a() {
+      return null;
+    }
+
+  }
+
+  public static class MockCycleA {
+
+    @Path("b")
+    public MockCycleB b() {
+      return null;
+    }
+
+  }
+
+  public static class MockCycleB {
+
+    @Path("a")
+    public MockCycleA a() {
+      return null;
+    }
+
+  }
+
+  @Path("folders")
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class MockFolderResource {
+
+    @Path("{id}")
+    @ReferencedBy(Long.class)
+    public MockFolder folder() {
+      return null;
+    }
+
+  }
+
+  public static class MockFolder {
+
+    @GET
+    @ReferencedBy(Long.class)
+    public Object get() {
+      return null;
+    }
+
+    @Path("folders/{id}")
+    @ReferencedBy(Long.class)
+    public MockFolder folder() {
+      return null;
+    }
+
+  }
+
+  public static class MockItemResource {
+
+    @GET
+    @ReferencedBy(Short.class)
+    public Object get() {
+      return null;
+    }
+
+  }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MeteredResourcePathResolver}.
+ *
+ * @author Carl Harris
+ */
+public class MeteredResourcePathResolverTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ResourcePathResolver delegate;
+
+  private final ResolverMetrics metrics = new ResolverMetrics(null, 1);
+
+  private MeteredResourcePathResolver resolver;
+
+  @Test
+  public void testResolve() throws Exception {
+    final Object[] values = { 1 };
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(delegate).resolveWith(values, Integer.class);
+        will(returnValue("/integers/1"));
+        oneOf(delegate).resolveWith(values, Long.class);
+        will(returnValue("/longs/1"));
+      }
+    });
+
+    resolver = new MeteredResourcePathResolver(delegate, metrics);
+    assertThat(resolver.resolveWith(values, Integer.class),
+        is(equalTo("/integers/1")));
+    resolver.resolveWith(values, Integer.class);
+    resolver.resolveWith(values, Long.class);
+    assertThat(metrics.getResolveCount(), is(equalTo(3L)));
+    assertThat(metrics.getMissCount(), is(equalTo(0L)));
+    assertThat(metrics.getTopModelPaths(), contains("Integer=2"));
+  }
+
+  @Test
+  public void testResolveWhenNotFound() throws Exception {
+    final Object[] values = { 1 };
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).resolveWith(values, Integer.class);
+        will(throwException(new ResourceNotFoundException(
+            ModelPath.with(Integer.class))));
+      }
+    });
+
+    resolver = new MeteredResourcePathResolver(delegate, metrics);
+    try {
+      resolver.resolveWith(values, Integer.class);
+    }
+    catch (ResourceNotFoundException ex) {
+      assertThat(metrics.getResolveCount(), is(equalTo(1L)));
+      assertThat(metrics.getMissCount(), is(equalTo(1L)));
+      return;
+    }
+    throw new AssertionError("expected ResourceNotFoundException");
+  }
+
+  @Test
+  public void testModelPathsCountedByContents() throws Exception {
+    final ResolverMetrics metrics = new ResolverMetrics(null, 2);
+    final Class<?>[] modelTypes = { Integer.class, Long.class };
+    metrics.resolved(modelTypes, 0);
+    modelTypes[1] = Short.class;
+    metrics.resolved(new Class<?>[] { Integer.class, Long.class }, 0);
+    metrics.resolved(new Class<?>[] { Integer.class, Long.class }, 0);
+    metrics.resolved(new Class<?>[] { Integer.class }, 0);
+    assertThat(metrics.getTopModelPaths(),
+        contains("[Integer, Long]=3", "Integer=1"));
+  }
+
+  @Test
+  public void testReset() throws Exception {
+    final Object[] values = { 1 };
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).resolveWith(values, Integer.class);
+        will(returnValue("/integers/1"));
+      }
+    });
+
+    resolver = new MeteredResourcePathResolver(delegate, metrics);
+    resolver.resolveWith(values, Integer.class);
+    metrics.reset();
+    assertThat(metrics.getResolveCount(), is(equalTo(0L)));
+    assertThat(metrics.getLatencyMax(), is(equalTo(0L)));
+    assertThat(metrics.getTopModelPaths().isEmpty(), is(true));
+  }
+
+}
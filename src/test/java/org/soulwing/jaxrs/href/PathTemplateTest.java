@@ -0,0 +1,114 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PathTemplate}.
+ *
+ * @author Carl Harris
+ */
+public class PathTemplateTest {
+
+  @Test
+  public void testCompileWithNoVariables() throws Exception {
+    final PathTemplate template = PathTemplate.compile("/customers");
+    assertThat(template.variables(), is(empty()));
+    assertThat(template.expand(), is(equalTo("/customers")));
+  }
+
+  @Test
+  public void testCompileWithVariables() throws Exception {
+    final PathTemplate template =
+        PathTemplate.compile("/customers/{id}/orders/{orderId: [0-9]{1,4}}");
+    assertThat(template.variables(), contains("id", "orderId"));
+    assertThat(template.expand(1, 2), is(equalTo("/customers/1/orders/2")));
+  }
+
+  @Test
+  public void testExpandEncodesValues() throws Exception {
+    assertThat(PathTemplate.compile("/tags/{tag}").expand("a b/c"),
+        is(equalTo("/tags/a%20b%2Fc")));
+  }
+
+  @Test
+  public void testPrefixIsShared() throws Exception {
+    final PathTemplate template1 =
+        PathTemplate.compile(new String("/context/app/{id}"));
+    final PathTemplate template2 =
+        PathTemplate.compile(new String("/context/app/{id}/orders"));
+    assertThat(template1.prefix(), is(equalTo("/context/app/")));
+    assertThat(template1.prefix(), is(sameInstance(template2.prefix())));
+  }
+
+  @Test
+  public void testBasePathIsShared() throws Exception {
+    final String basePath = new String("/context/shared");
+    final PathTemplate template1 = PathTemplate.compile(
+        new String("/context/shared/orders/{id}"), basePath);
+    final PathTemplate template2 = PathTemplate.compile(
+        new String("/context/shared/customers/{id}"), basePath);
+    assertThat(template1.basePath(), is(sameInstance(basePath)));
+    assertThat(template2.basePath(), is(sameInstance(basePath)));
+    assertThat(template1.prefix(), is(equalTo("/context/shared/orders/")));
+    assertThat(template2.expand(1), is(equalTo("/context/shared/customers/1")));
+  }
+
+  @Test
+  public void testBasePathMustEndAtSegmentBoundary() throws Exception {
+    final PathTemplate template = PathTemplate.compile(
+        "/context/boundedness/{id}", "/context/bounded");
+    assertThat(template.basePath(), is(equalTo("")));
+    assertThat(template.expand(1), is(equalTo("/context/boundedness/1")));
+  }
+
+  @Test
+  public void testBasePathIsNotSharedWhenNotGiven() throws Exception {
+    PathTemplate.compile("/context/unshared/orders/{id}", "/context/unshared");
+    final PathTemplate template =
+        PathTemplate.compile("/context/unshared/customers/{id}");
+    assertThat(template.basePath(), is(equalTo("")));
+    assertThat(template.prefix(), is(equalTo("/context/unshared/customers/")));
+  }
+
+  @Test
+  public void testExpandWithNoVariablesReturnsPrefix() throws Exception {
+    final PathTemplate template = PathTemplate.compile("/customers");
+    assertThat(template.expand(), is(sameInstance(template.prefix())));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testExpandWithWrongNumberOfValues() throws Exception {
+    PathTemplate.compile("/customers/{id}").expand();
+  }
+
+  @Test(expected = ResourceConfigurationException.class)
+  public void testCompileWithUnterminatedVariable() throws Exception {
+    PathTemplate.compile("/customers/{id");
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+import org.soulwing.jaxrs.href.PathTemplateContextMap.Entry;
+
+/**
+ * Unit tests for {@link PrecompiledResourcePathResolver}.
+ *
+ * @author Carl Harris
+ */
+public class PrecompiledResourcePathResolverTest {
+
+  private final PrecompiledResourcePathResolver resolver =
+      new MockPrecompiledResolver();
+
+  @Test
+  public void testResolveWithDispatch() throws Exception {
+    assertThat(resolver.resolve(PathTemplateContextMap.with(
+        Entry.with("id", 1)), Integer.class),
+        is(equalTo("/integers/1")));
+  }
+
+  @Test
+  public void testResolveWithoutDispatch() throws Exception {
+    assertThat(resolver.resolveWith(new Object[] { 2 }, Long.class),
+        is(equalTo("/any/2")));
+  }
+
+  @Test(expected = ResourceNotFoundException.class)
+  public void testResolveWhenNotFound() throws Exception {
+    resolver.resolveWith(new Object[0], Integer.class, Integer.class);
+  }
+
+  static class MockPrecompiledResolver
+      extends PrecompiledResourcePathResolver {
+
+    MockPrecompiledResolver() {
+      super(
+          entry("method", "Integers.get", "/integers/{id}",
+              new NamedVariablePathTemplateResolver(), Integer.class),
+          entry("method", "Any.get", "/any/{id}",
+              new NamedVariablePathTemplateResolver(), AnyModel.class));
+    }
+
+    @Override
+    protected int dispatch(Class<?>[] modelTypes) {
+      switch (modelTypes.length) {
+        case 1:
+          if (modelTypes[0] == Integer.class) return 0;
+          break;
+        default:
+          break;
+      }
+      return -1;
+    }
+
+  }
+
+}
@@ -18,8 +18,17 @@
  */
 package org.soulwing.jaxrs.href;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 
 import org.jmock.Expectations;
@@ -76,9 +85,10 @@ public class ReflectionResourceDiscoveryServiceTest {
             TemplateResolver.class);
         will(returnValue(templateResolver));
 
-        oneOf(typeIntrospector).describe(MockResource.class,
-            APPLICATION_PATH + "/" + RESOURCE_PATH, ModelPath.with(),
-            templateResolver, reflectionService, resolver);
+        oneOf(typeIntrospector).describe(with(same(MockResource.class)),
+            with(APPLICATION_PATH + "/" + RESOURCE_PATH),
+            with(ModelPath.with()), with(same(templateResolver)),
+            with(same(reflectionService)), with(any(DescriptorSink.class)));
 
         oneOf(resolver).validate();
       }
@@ -87,9 +97,157 @@ public class ReflectionResourceDiscoveryServiceTest {
     service.discoverResources(APPLICATION_PATH, reflectionService, resolver);
   }
 
+  @Test
+  public void testDiscoverResourcesInParallel() throws Exception {
+    final CollectingResolver resolver = new CollectingResolver();
+    new ReflectionResourceDiscoveryService(4).discoverResources(
+        APPLICATION_PATH, new ClassSetReflectionService(
+            Arrays.<Class<?>>asList(MockResourceB.class, MockResourceA.class)),
+        resolver);
+    final List<ResourceDescriptor> descriptors =
+        resolver.collector.descriptors();
+    assertThat(descriptors.size(), is(equalTo(2)));
+    assertThat(descriptors.get(0).path(),
+        is(equalTo(APPLICATION_PATH + "/a")));
+    assertThat(descriptors.get(1).path(),
+        is(equalTo(APPLICATION_PATH + "/b")));
+  }
+
+  @Test
+  public void testDiscoverResourcesInNameOrder() throws Exception {
+    final CollectingResolver resolver = new CollectingResolver();
+    new ReflectionResourceDiscoveryService().discoverResources(
+        APPLICATION_PATH, new ClassSetReflectionService(
+            Arrays.<Class<?>>asList(MockResourceB.class, MockResourceA.class)),
+        resolver);
+    final List<ResourceDescriptor> descriptors =
+        resolver.collector.descriptors();
+    assertThat(descriptors.size(), is(equalTo(2)));
+    assertThat(descriptors.get(0).path(),
+        is(equalTo(APPLICATION_PATH + "/a")));
+    assertThat(descriptors.get(1).path(),
+        is(equalTo(APPLICATION_PATH + "/b")));
+  }
+
+  @Test
+  public void testDiscoverResourcesWhenErrors() throws Exception {
+    try {
+      new ReflectionResourceDiscoveryService().discoverResources(
+          APPLICATION_PATH, new ClassSetReflectionService(
+              Arrays.<Class<?>>asList(MockInvalidResourceB.class,
+                  MockInvalidResourceA.class)),
+          new SimpleResourcePathResolver());
+      throw new AssertionError("expected ResourceConfigurationException");
+    }
+    catch (ResourceConfigurationException ex) {
+      assertThat(ex.getMessage(), containsString("MockInvalidResourceA"));
+    }
+  }
+
+  @Test
+  public void testDiscoverResourcesWhenVariableNotDeclared()
+      throws Exception {
+    try {
+      new ReflectionResourceDiscoveryService().discoverResources(
+          APPLICATION_PATH, new ClassSetReflectionService(
+              Collections.<Class<?>>singleton(MockUndeclaredResource.class)),
+          new SimpleResourcePathResolver());
+      throw new AssertionError("expected ResourceConfigurationException");
+    }
+    catch (ResourceConfigurationException ex) {
+      assertThat(ex.getMessage(), containsString("'id'"));
+    }
+  }
+
+  @Test
+  public void testDiscoveredTemplatesShareBasePath() throws Exception {
+    final CollectingResolver resolver = new CollectingResolver();
+    new ReflectionResourceDiscoveryService().discoverResources(
+        APPLICATION_PATH, new ClassSetReflectionService(
+            Arrays.<Class<?>>asList(MockResourceA.class, MockResourceB.class)),
+        resolver);
+    final List<ResourceDescriptor> descriptors =
+        resolver.collector.descriptors();
+    assertThat(descriptors.size(), is(equalTo(2)));
+    assertThat(descriptors.get(0).template().basePath(),
+        is(equalTo(APPLICATION_PATH)));
+    assertThat(descriptors.get(0).template().basePath(),
+        is(sameInstance(descriptors.get(1).template().basePath())));
+  }
+
+  @Test
+  public void testDiscoverResourcesInParallelWhenErrors() throws Exception {
+    try {
+      new ReflectionResourceDiscoveryService(4).discoverResources(
+          APPLICATION_PATH, new ClassSetReflectionService(
+              Arrays.<Class<?>>asList(MockInvalidResourceB.class,
+                  MockInvalidResourceA.class)),
+          new SimpleResourcePathResolver());
+      throw new AssertionError("expected ResourceConfigurationException");
+    }
+    catch (ResourceConfigurationException ex) {
+      assertThat(ex.getMessage(), containsString("MockInvalidResourceA"));
+    }
+  }
+
   public static class MockResource {
   }
 
+  @Path("a")
+  @TemplateResolver(MockTemplateResolver.class)
+  public static class MockResourceA {
+    @GET
+    @ReferencedBy(Integer.class)
+    public Object get() {
+      return null;
+    }
+  }
+
+  @Path("b")
+  @TemplateResolver(MockTemplateResolver.class)
+  public static class MockResourceB {
+    @GET
+    @ReferencedBy(Long.class)
+    public Object get() {
+      return null;
+    }
+  }
+
+  @Path("invalidA")
+  public static class MockInvalidResourceA {
+    @GET
+    @ReferencedBy(Integer.class)
+    public Object get() {
+      return null;
+    }
+  }
+
+  @Path("invalidB")
+  public static class MockInvalidResourceB {
+    @GET
+    @ReferencedBy(Long.class)
+    public Object get() {
+      return null;
+    }
+  }
+
+  @Path("undeclared/{id}")
+  @TemplateResolver(MockDeclaringResolver.class)
+  public static class MockUndeclaredResource {
+    @GET
+    @ReferencedBy(Integer.class)
+    public Object get() {
+      return null;
+    }
+  }
+
+  public static class MockDeclaringResolver
+      extends NamedVariablePathTemplateResolver {
+    public MockDeclaringResolver() {
+      super("integerId");
+    }
+  }
+
   public static class MockTemplateResolver implements PathTemplateResolver {
     @Override
     public String resolve(String template, PathTemplateContext context)
@@ -98,4 +256,19 @@ public class ReflectionResourceDiscoveryServiceTest {
     }
   }
 
+  /**
+   * A resolver that also records the order in which descriptors are added.
+   */
+  private static class CollectingResolver extends SimpleResourcePathResolver {
+
+    final DescriptorCollector collector = new DescriptorCollector();
+
+    @Override
+    public void addDescriptor(ResourceDescriptor descriptor) {
+      super.addDescriptor(descriptor);
+      collector.addDescriptor(descriptor);
+    }
+
+  }
+
 }
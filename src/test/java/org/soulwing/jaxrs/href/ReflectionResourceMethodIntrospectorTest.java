@@ -386,9 +386,12 @@ public class ReflectionResourceMethodIntrospectorTest {
       final Method method, final boolean hasTemplateResolver) throws Exception {
     return new Expectations() {
       {
+        allowing(resolver).basePath();
+        will(returnValue(PARENT_PATH));
         oneOf(descriptorFactory).newDescriptor(
             with(method),
             with(PARENT_PATH + RESOURCE_PATH),
+            with(PARENT_PATH),
             with(MODEL_PATH.concat(Object.class)),
             with(any(PathTemplateResolver.class)));
         will(returnValue(descriptor));
@@ -37,6 +37,8 @@ import org.junit.Test;
 public class ReflectionResourceTypeIntrospectorTest {
 
   private static final String PATH = "somePath";
+
+  private static final String BASE_PATH = "basePath";
   private static final ModelPath MODEL_PATH = ModelPath.with();
 
 
@@ -122,8 +124,10 @@ public class ReflectionResourceTypeIntrospectorTest {
   private Expectations typeDescriptorExpectations() throws Exception {
     return new Expectations() {
       {
+        allowing(resolver).basePath();
+        will(returnValue(BASE_PATH));
         oneOf(descriptorFactory).newDescriptor(with(MockResource.class),
-            with(PATH), with(MODEL_PATH.concat(Object.class)),
+            with(PATH), with(BASE_PATH), with(MODEL_PATH.concat(Object.class)),
             (PathTemplateResolver) with(instanceOf(MockTemplateResolver.class)));
         will(returnValue(descriptor));
         oneOf(resolver).addDescriptor(descriptor);
@@ -0,0 +1,133 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.soulwing.jaxrs.href.PathTemplateContextMap.Entry;
+
+/**
+ * Unit tests for {@link ResolverSourceGenerator}.
+ *
+ * @author Carl Harris
+ */
+public class ResolverSourceGeneratorTest {
+
+  private static final String CLASS_NAME = "com.example.GeneratedResolver";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testGenerate() throws Exception {
+    final StringWriter writer = new StringWriter();
+    new ResolverSourceGenerator(CLASS_NAME).generate(
+        "/app", new ClassSetReflectionService(
+            Collections.<Class<?>>singleton(MockResource.class)), writer);
+
+    final String source = writer.toString();
+    assertThat(source, containsString("package com.example;"));
+    assertThat(source, containsString("public final class GeneratedResolver"));
+    assertThat(source, containsString("entry(\"method\", \"MockResource.get\", "
+        + "\"/app/customers/{id}\", new "
+        + NamedVariablePathTemplateResolver.class.getName() + "(), "
+        + MockModel.class.getCanonicalName() + ".class)"));
+    assertThat(source, containsString("if (modelTypes[0] == "
+        + MockModel.class.getCanonicalName() + ".class) return 0;"));
+  }
+
+  @Test
+  public void testGeneratedSourceResolvesAtContextPath() throws Exception {
+    final File sourceDirectory = folder.newFolder("src");
+    final File classDirectory = folder.newFolder("classes");
+    final File sourceFile = new File(sourceDirectory,
+        CLASS_NAME.replace('.', '/') + ".java");
+    assertThat(sourceFile.getParentFile().mkdirs(), is(true));
+    try (Writer writer = new OutputStreamWriter(
+        new FileOutputStream(sourceFile), StandardCharsets.UTF_8)) {
+      new ResolverSourceGenerator(CLASS_NAME).generate("/app",
+          new ClassSetReflectionService(
+              Collections.<Class<?>>singleton(MockResource.class)), writer);
+    }
+
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assertThat(compiler, is(notNullValue()));
+    final int status = compiler.run(null, null, null, "-d",
+        classDirectory.getPath(), "-cp", System.getProperty("java.class.path"),
+        sourceFile.getPath());
+    assertThat(status, is(equalTo(0)));
+
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[] { classDirectory.toURI().toURL() },
+        getClass().getClassLoader())) {
+      final Class<?> type = classLoader.loadClass(CLASS_NAME);
+      final ResourcePathResolver atRoot =
+          (ResourcePathResolver) type.newInstance();
+      final ResourcePathResolver atContext = (ResourcePathResolver)
+          type.getConstructor(String.class).newInstance("/context");
+
+      final PathTemplateContext context =
+          PathTemplateContextMap.with(Entry.with("id", 42));
+      assertThat(atRoot.resolve(context, MockModel.class),
+          is(equalTo("/app/customers/42")));
+      assertThat(atContext.resolve(context, MockModel.class),
+          is(equalTo("/context/app/customers/42")));
+      assertThat(atContext.resolveWith(new Object[] { 7 }, MockModel.class),
+          is(equalTo("/context/app/customers/7")));
+    }
+  }
+
+  public static class MockModel {
+  }
+
+  @Path("customers")
+  @TemplateResolver(NamedVariablePathTemplateResolver.class)
+  public static class MockResource {
+
+    @GET
+    @Path("{id}")
+    @ReferencedBy(MockModel.class)
+    public Object get() {
+      return null;
+    }
+
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ResourceIndex}.
+ *
+ * @author Carl Harris
+ */
+public class ResourceIndexTest {
+
+  @Test
+  public void testRead() throws Exception {
+    final ResourceIndex index = ResourceIndex.read(
+        new StringReader("# comment\na.B\n\n  a.B$C  \n"));
+    assertThat(index.typeNames(), contains("a.B", "a.B$C"));
+  }
+
+  @Test
+  public void testWrite() throws Exception {
+    final StringWriter writer = new StringWriter();
+    ResourceIndex.with(Arrays.asList("a.B", "a.C")).write(writer);
+    assertThat(writer.toString(), is(equalTo("a.B\na.C\n")));
+  }
+
+}
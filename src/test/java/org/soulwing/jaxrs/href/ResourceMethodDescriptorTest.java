@@ -19,7 +19,10 @@
 package org.soulwing.jaxrs.href;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
@@ -81,6 +84,42 @@ public class ResourceMethodDescriptorTest {
         .matches(Model1.class, Model2.class, Model3.class), is(true));
   }
 
+  @Test
+  public void testCreateWithBindingResolver() throws Exception {
+    final ResourceMethodDescriptor descriptor = new ResourceMethodDescriptor(
+        Object.class.getMethod("toString"), "/customers/{id}",
+        ModelPath.with(Model1.class), new NamedVariablePathTemplateResolver());
+    assertThat(descriptor.bindingPlan(), is(not(nullValue())));
+    assertThat(descriptor.template().variables(), contains("id"));
+  }
+
+  @Test(expected = ResourceConfigurationException.class)
+  public void testCreateWhenVariableCannotBeBound() throws Exception {
+    new ResourceMethodDescriptor(Object.class.getMethod("toString"),
+        "/customers/{id}", ModelPath.with(Model1.class),
+        new AbstractBindingPathTemplateResolver() {
+          @Override
+          public TemplateVariableBinding bind(String variable) {
+            return null;
+          }
+        });
+  }
+
+  @Test
+  public void testCreateWithDeclaredVariables() throws Exception {
+    final ResourceMethodDescriptor descriptor = new ResourceMethodDescriptor(
+        Object.class.getMethod("toString"), "/customers/{customerId}",
+        ModelPath.with(Model1.class), new CustomerPathResolver());
+    assertThat(descriptor.bindingPlan(), is(not(nullValue())));
+  }
+
+  @Test(expected = ResourceConfigurationException.class)
+  public void testCreateWhenVariableNotDeclared() throws Exception {
+    new ResourceMethodDescriptor(Object.class.getMethod("toString"),
+        "/customers/{id}", ModelPath.with(Model1.class),
+        new CustomerPathResolver());
+  }
+
   private ResourceMethodDescriptor descriptorWith(
       Class<?>... modelPath) throws Exception {
     return new ResourceMethodDescriptor(
@@ -88,6 +127,13 @@ public class ResourceMethodDescriptorTest {
             ModelPath.with(modelPath), resolver);
   }
 
+  static class CustomerPathResolver
+      extends NamedVariablePathTemplateResolver {
+    CustomerPathResolver() {
+      super("customerId");
+    }
+  }
+
   interface Model1 {}
 
   interface Model2 {}
@@ -0,0 +1,74 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jaxrs.href;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ScanFilter}.
+ *
+ * @author Carl Harris
+ */
+public class ScanFilterTest {
+
+  @Test
+  public void testAcceptsAllByDefault() throws Exception {
+    final ScanFilter filter = new ScanFilter();
+    assertThat(filter.acceptsClass("com.example.Resource"), is(true));
+    assertThat(filter.acceptsJar("library-1.0.jar"), is(true));
+  }
+
+  @Test
+  public void testAcceptsClass() throws Exception {
+    final ScanFilter filter = new ScanFilter()
+        .includePackages("com.example, org.example.")
+        .excludePackages("com.example.internal");
+    assertThat(filter.acceptsClass("com.example.Resource"), is(true));
+    assertThat(filter.acceptsClass("org.example.api.Resource"), is(true));
+    assertThat(filter.acceptsClass("com.examples.Resource"), is(false));
+    assertThat(filter.acceptsClass("com.example.internal.Resource"),
+        is(false));
+    assertThat(filter.acceptsClass("net.example.Resource"), is(false));
+  }
+
+  @Test
+  public void testAcceptsJar() throws Exception {
+    final ScanFilter filter = new ScanFilter()
+        .includeJars("myapp-*.jar", "api-?.jar")
+        .excludeJars("myapp-test*.jar");
+    assertThat(filter.acceptsJar("myapp-core-1.0.jar"), is(true));
+    assertThat(filter.acceptsJar("api-2.jar"), is(true));
+    assertThat(filter.acceptsJar("api-22.jar"), is(false));
+    assertThat(filter.acceptsJar("myapp-test-1.0.jar"), is(false));
+    assertThat(filter.acceptsJar("guava-18.0.jar"), is(false));
+  }
+
+  @Test
+  public void testIgnoresNullAndEmptyValues() throws Exception {
+    final ScanFilter filter = new ScanFilter()
+        .includePackages((String) null)
+        .includeJars(" , ");
+    assertThat(filter.acceptsClass("com.example.Resource"), is(true));
+    assertThat(filter.acceptsJar("library-1.0.jar"), is(true));
+  }
+
+}
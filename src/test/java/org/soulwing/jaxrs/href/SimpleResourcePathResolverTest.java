@@ -22,6 +22,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
+import java.util.List;
+
 import javax.ws.rs.core.UriBuilder;
 
 import org.jmock.Expectations;
@@ -57,6 +59,9 @@ public class SimpleResourcePathResolverTest {
   @Mock
   private ReflectionService reflectionService;
 
+  @Mock
+  private ResolutionListener listener;
+
   private SimpleResourcePathResolver resolver = new SimpleResourcePathResolver();
 
   @Test
@@ -65,6 +70,8 @@ public class SimpleResourcePathResolverTest {
       {
         oneOf(descriptor).matches(ModelPath.with(Object.class));
         will(returnValue(true));
+        oneOf(descriptor).bindingPlan();
+        will(returnValue(null));
         oneOf(descriptor).path();
         will(returnValue(PATH));
         oneOf(descriptor).templateResolver();
@@ -79,6 +86,98 @@ public class SimpleResourcePathResolverTest {
         is(equalTo(PATH)));
   }
 
+  @Test
+  public void testResolveWithBindingPlan() throws Exception {
+    final BindingPlan bindingPlan = BindingPlan.compile(
+        PathTemplate.compile("/customers/{id}"),
+        new NamedVariablePathTemplateResolver());
+
+    context.checking(new Expectations() {
+      {
+        oneOf(descriptor).matches(ModelPath.with(Object.class));
+        will(returnValue(true));
+        oneOf(descriptor).bindingPlan();
+        will(returnValue(bindingPlan));
+        oneOf(pathContext).get("id", Object.class);
+        will(returnValue(42));
+      }
+    });
+
+    resolver.addDescriptor(descriptor);
+    assertThat(resolver.resolve(pathContext, Object.class),
+        is(equalTo("/customers/42")));
+  }
+
+  @Test
+  public void testResolveWithValues() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(descriptor).matches(ModelPath.with(Object.class));
+        will(returnValue(true));
+        oneOf(descriptor).template();
+        will(returnValue(PathTemplate.compile("/customers/{id}")));
+      }
+    });
+
+    resolver.addDescriptor(descriptor);
+    assertThat(resolver.resolveWith(new Object[] { 42 }, Object.class),
+        is(equalTo("/customers/42")));
+  }
+
+  @Test
+  public void testHandle() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(descriptor).matches(ModelPath.with(Object.class));
+        will(returnValue(true));
+        oneOf(descriptor).template();
+        will(returnValue(PathTemplate.compile("/customers/{id}/orders/{id2}")));
+      }
+    });
+
+    resolver.addDescriptor(descriptor);
+    final ResourcePathHandle handle = resolver.handle(Object.class);
+    assertThat(handle.resolve(1, 2), is(equalTo("/customers/1/orders/2")));
+    assertThat(handle.resolve(3L, 4L), is(equalTo("/customers/3/orders/4")));
+  }
+
+  @Test
+  public void testResolveNotifiesListener() throws Exception {
+    final Class<?>[] modelPath = { Object.class };
+    context.checking(new Expectations() {
+      {
+        oneOf(descriptor).matches(ModelPath.with(modelPath));
+        will(returnValue(true));
+        oneOf(listener).candidateFound(modelPath, descriptor);
+        oneOf(listener).winnerChosen(modelPath, descriptor,
+            ResolutionListener.Basis.SINGULAR, 1);
+        oneOf(descriptor).template();
+        will(returnValue(PathTemplate.compile("/customers/{id}")));
+      }
+    });
+
+    resolver = new SimpleResourcePathResolver(null, listener);
+    resolver.addDescriptor(descriptor);
+    assertThat(resolver.resolveWith(new Object[] { 42 }, Object.class),
+        is(equalTo("/customers/42")));
+  }
+
+  @Test(expected = ResourceNotFoundException.class)
+  public void testResolveWhenNotFoundNotifiesListener() throws Exception {
+    final Class<?>[] modelPath = { Object.class };
+    context.checking(new Expectations() {
+      {
+        oneOf(descriptor).matches(ModelPath.with(modelPath));
+        will(returnValue(false));
+        oneOf(listener).missed(modelPath);
+      }
+    });
+
+    resolver = new SimpleResourcePathResolver(null, listener);
+    resolver.addDescriptor(descriptor);
+    resolver.resolveWith(new Object[] { 42 }, Object.class);
+  }
+
   @Test(expected = AmbiguousPathResolutionException.class)
   public void testResolveWhenAmbiguous() throws Exception {
     final ResourceDescriptor descriptor1 =
@@ -106,6 +205,74 @@ public class SimpleResourcePathResolverTest {
         is(equalTo(PATH)));
   }
 
+  @Test(expected = AmbiguousPathResolutionException.class)
+  public void testResolveWhenAmbiguousNotifiesListener() throws Exception {
+    final ResourceDescriptor descriptor1 =
+        context.mock(ResourceDescriptor.class, "descriptor1");
+    final ResourceDescriptor descriptor2 =
+        context.mock(ResourceDescriptor.class, "descriptor2");
+
+    final Class<?>[] modelTypes = { Object.class };
+    final ModelPath modelPath = ModelPath.with(modelTypes);
+    context.checking(new Expectations() {
+      {
+        allowing(descriptor1).matches(modelPath);
+        will(returnValue(true));
+        allowing(descriptor2).matches(modelPath);
+        will(returnValue(true));
+        allowing(descriptor1).referencedBy();
+        will(returnValue(modelPath));
+        allowing(descriptor2).referencedBy();
+        will(returnValue(modelPath));
+        allowing(listener).candidateFound(with(modelTypes),
+            with(any(ResolvedResource.class)));
+        oneOf(listener).ambiguous(with(modelTypes), with(any(List.class)));
+      }
+    });
+
+    resolver = new SimpleResourcePathResolver(null, listener);
+    resolver.addDescriptor(descriptor1);
+    resolver.addDescriptor(descriptor2);
+    resolver.resolve(pathContext, Object.class);
+  }
+
+  @Test(expected = AmbiguousPathResolutionException.class)
+  public void testResolveWhenBestMatchAmbiguousNotifiesListener()
+      throws Exception {
+    final ResourceDescriptor descriptor1 =
+        context.mock(ResourceDescriptor.class, "descriptor1");
+    final ResourceDescriptor descriptor2 =
+        context.mock(ResourceDescriptor.class, "descriptor2");
+
+    final Class<?>[] modelTypes = { Object.class };
+    final ModelPath modelPath = ModelPath.with(modelTypes);
+    final ModelPath wildcardPath = ModelPath.with(AnyModel.class);
+    context.checking(new Expectations() {
+      {
+        allowing(descriptor1).matches(modelPath);
+        will(returnValue(true));
+        allowing(descriptor2).matches(modelPath);
+        will(returnValue(true));
+        allowing(descriptor1).referencedBy();
+        will(returnValue(wildcardPath));
+        allowing(descriptor2).referencedBy();
+        will(returnValue(wildcardPath));
+        allowing(listener).candidateFound(with(modelTypes),
+            with(any(ResolvedResource.class)));
+        allowing(listener).longestMatchFound(with(modelTypes),
+            with(any(ResolvedResource.class)));
+        allowing(listener).bestMatchFoundAtStep(with(0), with(modelTypes),
+            with(any(ResolvedResource.class)));
+        oneOf(listener).ambiguous(with(modelTypes), with(any(List.class)));
+      }
+    });
+
+    resolver = new SimpleResourcePathResolver(null, listener);
+    resolver.addDescriptor(descriptor1);
+    resolver.addDescriptor(descriptor2);
+    resolver.resolve(pathContext, Object.class);
+  }
+
   @Test
   public void testResolveBestMatchLongerPath() throws Exception {
     final ResourceDescriptor descriptor1 =
@@ -128,6 +295,9 @@ public class SimpleResourcePathResolverTest {
         allowing(descriptor1).matches(ModelPath.with(Object.class, Object.class));
         will(returnValue(true));
 
+        oneOf(descriptor1).bindingPlan();
+        will(returnValue(null));
+
         oneOf(descriptor1).templateResolver();
         will(returnValue(templateResolver));
 
@@ -168,6 +338,9 @@ public class SimpleResourcePathResolverTest {
         allowing(descriptor1).matches(ModelPath.with(Object.class));
         will(returnValue(true));
 
+        oneOf(descriptor1).bindingPlan();
+        will(returnValue(null));
+
         oneOf(descriptor1).templateResolver();
         will(returnValue(templateResolver));
 
@@ -207,6 +380,9 @@ public class SimpleResourcePathResolverTest {
         allowing(descriptor1).matches(ModelPath.with(Object.class));
         will(returnValue(true));
 
+        oneOf(descriptor1).bindingPlan();
+        will(returnValue(null));
+
         oneOf(descriptor1).templateResolver();
         will(returnValue(templateResolver));
 
@@ -224,6 +400,49 @@ public class SimpleResourcePathResolverTest {
         is(equalTo(PATH)));
   }
 
+  @Test
+  public void testResolveBestMatchNotifiesListener() throws Exception {
+    final ResourceDescriptor descriptor1 =
+        context.mock(ResourceDescriptor.class, "descriptor1");
+    final ResourceDescriptor descriptor2 =
+        context.mock(ResourceDescriptor.class, "descriptor2");
+
+    final Class<?>[] modelPath = { Object.class, Long.class };
+    final ModelPath modelPath1 = ModelPath.with(Object.class, AnyModel.class);
+    final ModelPath modelPath2 = ModelPath.with(AnyModel.class, Long.class);
+
+    context.checking(new Expectations() {
+      {
+        allowing(descriptor1).referencedBy();
+        will(returnValue(modelPath1));
+        allowing(descriptor2).referencedBy();
+        will(returnValue(modelPath2));
+
+        allowing(descriptor2).matches(ModelPath.with(modelPath));
+        will(returnValue(true));
+        allowing(descriptor1).matches(ModelPath.with(modelPath));
+        will(returnValue(true));
+
+        oneOf(listener).candidateFound(modelPath, descriptor1);
+        oneOf(listener).candidateFound(modelPath, descriptor2);
+        oneOf(listener).longestMatchFound(modelPath, descriptor1);
+        oneOf(listener).longestMatchFound(modelPath, descriptor2);
+        oneOf(listener).bestMatchFoundAtStep(0, modelPath, descriptor1);
+        oneOf(listener).winnerChosen(modelPath, descriptor1,
+            ResolutionListener.Basis.BEST, 2);
+
+        oneOf(descriptor1).template();
+        will(returnValue(PathTemplate.compile("/customers/{id}")));
+      }
+    });
+
+    resolver = new SimpleResourcePathResolver(null, listener);
+    resolver.addDescriptor(descriptor1);
+    resolver.addDescriptor(descriptor2);
+    assertThat(resolver.resolveWith(new Object[] { 42 }, modelPath),
+        is(equalTo("/customers/42")));
+  }
+
   @Test
   public void testResolveBestMatchAnySequenceWildcard() throws Exception {
     final ResourceDescriptor descriptor1 =
@@ -246,6 +465,9 @@ public class SimpleResourcePathResolverTest {
         allowing(descriptor1).matches(ModelPath.with(Object.class));
         will(returnValue(true));
 
+        oneOf(descriptor1).bindingPlan();
+        will(returnValue(null));
+
         oneOf(descriptor1).templateResolver();
         will(returnValue(templateResolver));
 
@@ -310,5 +532,24 @@ public class SimpleResourcePathResolverTest {
     resolver.validate();
   }
 
+  @Test
+  public void testWarmUpDoesNotInvokeTemplateResolver() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(descriptor).referencedBy();
+        will(returnValue(ModelPath.with(Object.class)));
+        allowing(descriptor).matches(ModelPath.with(Object.class));
+        will(returnValue(true));
+        oneOf(descriptor).template();
+        will(returnValue(PathTemplate.compile(PATH)));
+        never(descriptor).templateResolver();
+        never(templateResolver).resolve(with(any(String.class)),
+            with(any(PathTemplateContext.class)));
+      }
+    });
+
+    resolver.addDescriptor(descriptor);
+    resolver.warmUp();
+  }
 
 }